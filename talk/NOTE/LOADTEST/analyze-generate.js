@@ -0,0 +1,50 @@
+// 분석/중재안 생성 API 부하 테스트 (k6)
+// * 플랫폼 스레드(기본) vs 가상 스레드(virtual 프로필) 동시 처리량 비교용
+// * 실행 예
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<accessToken> -e ISSUE_NO=1 -e VUS=400 NOTE/LOADTEST/analyze-generate.js
+// * 확인 지표
+//   - http_req_duration p95, http_reqs (초당 처리량), 503 비율 (분석 작업 큐 포화)
+//   - /actuator/metrics/tomcat.threads.busy, hikaricp.connections.pending, llm.call
+// ⚠ 실제 AI API 를 호출하므로 비용/호출 한도 주의 (가능하면 목 서버로 openai 주소를 바꿔서 실행)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const ISSUE_NO = __ENV.ISSUE_NO || '1';
+const VUS = parseInt(__ENV.VUS || '400');
+
+export const options = {
+  scenarios: {
+    analyze: {
+      executor: 'constant-vus',
+      exec: 'analyze',
+      vus: Math.floor(VUS / 2),
+      duration: __ENV.DURATION || '2m',
+    },
+    generate: {
+      executor: 'constant-vus',
+      exec: 'generate',
+      vus: Math.ceil(VUS / 2),
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+};
+
+const params = {
+  headers: {
+    'Authorization': `Bearer ${TOKEN}`,
+    'Content-Type': 'application/json',
+  },
+  timeout: '180s',
+};
+
+export function analyze() {
+  const res = http.post(`${BASE_URL}/api/v1/issues/${ISSUE_NO}/analyze`, null, params);
+  check(res, { 'analyze 2xx/409': (r) => (r.status >= 200 && r.status < 300) || r.status === 409 });
+}
+
+export function generate() {
+  const res = http.post(`${BASE_URL}/api/v1/mediation-logs/generate/${ISSUE_NO}`, null, params);
+  check(res, { 'generate 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -9,6 +9,9 @@ CREATE DATABASE IF NOT EXISTS `gentletalk` DEFAULT CHARACTER SET utf8mb4 COLLATE
 
 USE `gentletalk`;
 
+-- ⚠ 운영/개발 DB 스키마는 Flyway 마이그레이션(src/main/resources/db/migration)으로 관리
+--   이 파일은 전체 스키마를 한눈에 보기 위한 참고용 (변경 시 마이그레이션 파일도 함께 추가)
+
 -- 회원
 DROP TABLE IF EXISTS `users`;
 
@@ -28,7 +31,10 @@ CREATE TABLE `users` (
 	`created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일자',
 	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP	COMMENT '수정일자'
 			,
-	PRIMARY KEY (`no`)
+	PRIMARY KEY (`no`),
+	INDEX `idx_created_at_no` (`created_at`, `no`),
+	INDEX `idx_tel` (`tel`),
+	INDEX `idx_email` (`email`)
 ) COMMENT '회원';
 
 
@@ -44,10 +50,64 @@ CREATE TABLE `user_auth` (
 	`created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일자',
 	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
 	PRIMARY KEY (`no`),
-	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE
+	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
+	INDEX `idx_username` (`username`)
 ) COMMENT '회원권한';
 
 
+-- 자동 로그인 (Spring Security remember-me)
+DROP TABLE IF EXISTS `persistent_logins`;
+
+CREATE TABLE `persistent_logins` (
+	`username` VARCHAR(64) NOT NULL COMMENT '아이디',
+	`series` VARCHAR(64) NOT NULL COMMENT '시리즈',
+	`token` VARCHAR(64) NOT NULL COMMENT '토큰',
+	`last_used` TIMESTAMP NOT NULL COMMENT '마지막 사용일시',
+	PRIMARY KEY (`series`),
+	INDEX `idx_username` (`username`)
+) COMMENT '자동 로그인';
+
+
+-- 리프레시 토큰
+-- * id = 토큰 jti, family_id = 로그인 1회로 시작되는 토큰 계열
+-- * 갱신(rotation) 시 기존 토큰은 used_at 기록, 같은 계열로 새 토큰 발급
+-- * 사용된 토큰이 다시 제시되면(재사용) 계열 전체를 revoked_at 처리
+DROP TABLE IF EXISTS `refresh_tokens`;
+
+CREATE TABLE `refresh_tokens` (
+	`no` BIGINT NOT NULL AUTO_INCREMENT COMMENT 'PK',
+	`id` VARCHAR(64) NOT NULL UNIQUE COMMENT 'UK (jti)',
+	`family_id` VARCHAR(64) NOT NULL COMMENT '토큰 계열 ID',
+	`user_no` BIGINT NOT NULL COMMENT 'FK',
+	`username` VARCHAR(100) NOT NULL COMMENT '아이디',
+	`expires_at` TIMESTAMP NOT NULL COMMENT '만료일시',
+	`used_at` TIMESTAMP NULL COMMENT '갱신에 사용된 일시',
+	`revoked_at` TIMESTAMP NULL COMMENT '폐기일시',
+	`created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일자',
+	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
+	PRIMARY KEY (`no`),
+	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
+	INDEX `idx_family_id` (`family_id`),
+	INDEX `idx_revoked_at` (`revoked_at`),
+	INDEX `idx_expires_at` (`expires_at`)
+) COMMENT '리프레시 토큰';
+
+
+-- 번호 블록 시퀀스
+-- * 서버마다 블록(예: 100개) 단위로 번호를 가져가 메모리에서 발급
+-- * issue_code : 이슈 코드 (번호 → 키 기반 순열 → 6자리 base-36)
+DROP TABLE IF EXISTS `id_sequences`;
+
+CREATE TABLE `id_sequences` (
+	`name` VARCHAR(64) NOT NULL COMMENT '시퀀스 이름',
+	`next_value` BIGINT NOT NULL DEFAULT 0 COMMENT '다음에 임대할 번호',
+	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
+	PRIMARY KEY (`name`)
+) COMMENT '번호 블록 시퀀스';
+
+INSERT INTO `id_sequences` (`name`, `next_value`) VALUES ('issue_code', 0);
+
+
 -- 이슈
 -- * 하나의 이슈에 여러 개의 분석 요청 가능
 -- * 입력정보
@@ -84,10 +144,16 @@ CREATE TABLE `issues` (
 	`negotiation_message` TEXT COMMENT '협상메시지',
 	`flag` VARCHAR(1) NOT NULL DEFAULT 'N' COMMENT '플래그 (Y/N)',
 	`status` VARCHAR(20) NOT NULL DEFAULT '대기' COMMENT '상태 (대기, 분석중, 분석완료, 분석실패, 상대방대기, 상대방응답, 중재안제시, 협상완료, 협상결렬)',
+	`version` INT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전',
 	`created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일자',
 	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
 	PRIMARY KEY (`no`),
-	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE
+	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
+	INDEX `idx_created_at_no` (`created_at`, `no`),
+	INDEX `idx_user_no_created_at` (`user_no`, `created_at`),
+	INDEX `idx_opponent_user_no_created_at` (`opponent_user_no`, `created_at`),
+	INDEX `idx_opponent_contact` (`opponent_contact`, `opponent_user_no`),
+	FULLTEXT INDEX `ft_issues_search` (`conflict_situation`, `requirements`, `opponent_name`) WITH PARSER ngram
 ) COMMENT '이슈';
 
 
@@ -116,10 +182,35 @@ CREATE TABLE `negotiations` (
 	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
 	PRIMARY KEY (`no`),
 	FOREIGN KEY (`issue_no`) REFERENCES `issues` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
-	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE
+	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
+	INDEX `idx_created_at_no` (`created_at`, `no`),
+	INDEX `idx_user_no_status_created_at` (`user_no`, `status`, `created_at`)
 ) COMMENT '협상';
 
 
+-- 이슈 분석 작업 (비동기)
+-- * POST /api/v1/issues/{no}/analyze?async=true 로 등록
+-- * 상태 (대기, 분석중, 분석완료, 분석실패)
+DROP TABLE IF EXISTS `analysis_jobs`;
+
+CREATE TABLE `analysis_jobs` (
+	`no` BIGINT NOT NULL AUTO_INCREMENT COMMENT 'PK',
+	`id` VARCHAR(64) NOT NULL UNIQUE COMMENT 'UK (작업 ID)',
+	`issue_no` BIGINT NOT NULL COMMENT 'FK',
+	`status` VARCHAR(20) NOT NULL DEFAULT '대기' COMMENT '상태 (대기, 분석중, 분석완료, 분석실패)',
+	`error_message` TEXT COMMENT '실패 사유',
+	`attempts` INT NOT NULL DEFAULT 0 COMMENT '실행 횟수',
+	`worker_id` VARCHAR(100) NULL COMMENT '실행 서버 ID',
+	`started_at` TIMESTAMP NULL COMMENT '시작일시',
+	`finished_at` TIMESTAMP NULL COMMENT '종료일시',
+	`created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일자',
+	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
+	PRIMARY KEY (`no`),
+	FOREIGN KEY (`issue_no`) REFERENCES `issues` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
+	INDEX `idx_status_created_at` (`status`, `created_at`)
+) COMMENT '이슈 분석 작업';
+
+
 -- 이슈 대분류 (카테고리)
 DROP TABLE IF EXISTS `issue_categories`;
 
@@ -214,6 +305,11 @@ CREATE TABLE `mediation_proposal_logs` (
 	`id` VARCHAR(64) NOT NULL UNIQUE COMMENT 'UK',
 	`category_no` BIGINT NOT NULL COMMENT 'FK (카테고리)',
 	`conflict_situation_hash` VARCHAR(64) NOT NULL COMMENT '갈등상황 해시값 (유사도 검색용)',
+	`conflict_situation_simhash` BIGINT COMMENT '갈등상황 SimHash (근사 중복 검색용)',
+	`simhash_b0` SMALLINT UNSIGNED AS (`conflict_situation_simhash` & 0xFFFF) STORED COMMENT 'SimHash 밴드 0',
+	`simhash_b1` SMALLINT UNSIGNED AS ((`conflict_situation_simhash` >> 16) & 0xFFFF) STORED COMMENT 'SimHash 밴드 1',
+	`simhash_b2` SMALLINT UNSIGNED AS ((`conflict_situation_simhash` >> 32) & 0xFFFF) STORED COMMENT 'SimHash 밴드 2',
+	`simhash_b3` SMALLINT UNSIGNED AS ((`conflict_situation_simhash` >> 48) & 0xFFFF) STORED COMMENT 'SimHash 밴드 3',
 	`conflict_situation` TEXT NOT NULL COMMENT '갈등상황 원문',
 	`requirements` TEXT NOT NULL COMMENT '요구사항 원문',
 	`opponent_requirements` TEXT COMMENT '상대방 요구사항 원문',
@@ -233,6 +329,10 @@ CREATE TABLE `mediation_proposal_logs` (
 	-- FOREIGN KEY (`category_no`) REFERENCES `issue_categories` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
 	FOREIGN KEY (`source_log_no`) REFERENCES `mediation_proposal_logs` (`no`) ON DELETE SET NULL ON UPDATE CASCADE,
 	INDEX `idx_category_hash` (`category_no`, `conflict_situation_hash`),
+	INDEX `idx_category_simhash_b0` (`category_no`, `simhash_b0`),
+	INDEX `idx_category_simhash_b1` (`category_no`, `simhash_b1`),
+	INDEX `idx_category_simhash_b2` (`category_no`, `simhash_b2`),
+	INDEX `idx_category_simhash_b3` (`category_no`, `simhash_b3`),
 	INDEX `idx_reuse_count` (`reuse_count` DESC),
 	INDEX `idx_created_at` (`created_at` DESC)
 ) COMMENT '중재안 로그 (AI 캐싱)';
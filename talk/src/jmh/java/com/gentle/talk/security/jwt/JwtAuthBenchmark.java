@@ -0,0 +1,121 @@
+package com.gentle.talk.security.jwt;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.gentle.talk.domain.users.CustomUser;
+import com.gentle.talk.domain.users.UserAuth;
+import com.gentle.talk.domain.users.Users;
+import com.gentle.talk.service.users.CustomDetailsService;
+import com.gentle.talk.service.users.UserDetailsCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 🍃 JWT 인증 경로 벤치마크 (요청 1건당 비용)
+ * - threeParse   : 이전 필터 경로 (호출마다 키/파서 생성 + validateToken / isTokenExpired / getUsernameFromToken 3회 파싱 + UserDetails 로드)
+ * - parseOnce    : JwtTokenProvider.parseValidClaims 1회 + UserDetailsCache 조회
+ * ⚠ UserDetails 로드는 DB 없이 메모리에서 만든 CustomUser 로 대체 → 이전 경로의 실제 비용(쿼리)은 포함되지 않음
+ * ✅ 실행 : gradle jmh -PjmhIncludes=JwtAuthBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "GentleTalkSecretKeyForJwtTokenGenerationAndValidation2024MinimumLengthRequired256Bits";
+    private static final String USERNAME = "bench-user";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserDetailsCache userDetailsCache;
+    private CustomDetailsService userDetailsService;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider();
+        set(jwtTokenProvider, "secret", SECRET);
+        set(jwtTokenProvider, "expiration", 86_400_000L);
+        set(jwtTokenProvider, "refreshExpiration", 604_800_000L);
+        jwtTokenProvider.init();
+
+        userDetailsService = new InMemoryDetailsService();
+        userDetailsCache = new UserDetailsCache(userDetailsService, new SimpleMeterRegistry(), 10_000, 60);
+
+        UserDetails user = userDetailsService.loadUserByUsername(USERNAME);
+        token = jwtTokenProvider.generateAccessToken(user, UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public void threeParse(Blackhole bh) {
+        // validateToken
+        boolean valid = legacyClaims(token) != null;
+        if (!valid) return;
+        // isTokenExpired
+        Date expiration = legacyClaims(token).getExpiration();
+        if (expiration.before(new Date())) return;
+        // getUsernameFromToken
+        String username = legacyClaims(token).getSubject();
+        bh.consume(userDetailsService.loadUserByUsername(username));
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole bh) {
+        Claims claims = jwtTokenProvider.parseValidClaims(token);
+        if (claims == null) return;
+        bh.consume(userDetailsCache.get(claims.getSubject()));
+    }
+
+    // 이전 JwtTokenProvider.getAllClaimsFromToken (호출마다 키 + 파서 생성)
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    // DB 대신 메모리에서 회원을 만드는 UserDetailsService
+    static class InMemoryDetailsService extends CustomDetailsService {
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            Users user = new Users();
+            user.setNo(1L);
+            user.setUsername(username);
+            user.setPassword("{noop}password");
+            user.setEnabled(true);
+            UserAuth auth = new UserAuth();
+            auth.setUsername(username);
+            auth.setAuth("ROLE_USER");
+            user.setAuthList(List.of(auth));
+            return new CustomUser(user);
+        }
+    }
+
+}
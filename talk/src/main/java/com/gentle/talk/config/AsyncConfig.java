@@ -0,0 +1,107 @@
+package com.gentle.talk.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 🍃 비동기 작업 실행기 설정
+ * ✅ analysisJobExecutor : 이슈 분석 작업 전용 (크기 제한된 풀 + 큐)
+ *    - 큐가 가득 차면 TaskRejectedException → 호출 측에서 503 으로 응답 (backpressure)
+ * ✅ smsExecutor : 문자 발송 전용 (Aligo 응답 대기를 요청 스레드에서 분리)
+ * ✅ eventExecutor : 커밋 이후 처리할 도메인 이벤트 (@Async("eventExecutor") + @TransactionalEventListener)
+ *    - 큐가 가득 차면 발행한 스레드에서 직접 실행 (CallerRunsPolicy)
+ *      → 커밋 이후 단계에서 예외가 나면 이미 커밋된 요청이 실패로 응답되므로 거절하지 않음
+ * ✅ @EnableScheduling : 주기 작업 (재사용 횟수 일괄 반영 등)
+ * ✅ @EnableAsync : 실행기 이름을 지정한 @Async 메서드
+ * ✅ spring.threads.virtual.enabled=true (virtual 프로필, Java 21)
+ *    - 풀 크기/큐 제한은 그대로 두고 작업 스레드만 가상 스레드로 생성
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${analysis.job.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${analysis.job.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Value("${analysis.job.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${sms.executor.pool-size:4}")
+    private int smsPoolSize;
+
+    @Value("${sms.executor.queue-capacity:500}")
+    private int smsQueueCapacity;
+
+    @Value("${event.executor.pool-size:2}")
+    private int eventPoolSize;
+
+    @Value("${event.executor.queue-capacity:1000}")
+    private int eventQueueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = "analysisJobExecutor")
+    public ThreadPoolTaskExecutor analysisJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-job-");
+        if (virtualThreads) {
+            // ⚠ Java 21 미만에서는 UnsupportedOperationException
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("analysis-job-").getVirtualThreadFactory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "smsExecutor")
+    public ThreadPoolTaskExecutor smsExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(smsPoolSize);
+        executor.setMaxPoolSize(smsPoolSize);
+        executor.setQueueCapacity(smsQueueCapacity);
+        executor.setThreadNamePrefix("sms-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("sms-").getVirtualThreadFactory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "eventExecutor")
+    public ThreadPoolTaskExecutor eventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(eventPoolSize);
+        executor.setMaxPoolSize(eventPoolSize);
+        executor.setQueueCapacity(eventQueueCapacity);
+        executor.setThreadNamePrefix("event-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("event-").getVirtualThreadFactory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.gentle.talk.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 🍃 LLM(OpenAI) HTTP 클라이언트 설정
+ * ✅ 애플리케이션 전체에서 하나의 커넥션 풀을 공유
+ *    - 요청마다 WebClient 를 새로 만들면 커넥션 풀 + TLS 핸드셰이크가 매번 발생
+ * ✅ keep-alive, 연결/읽기 타임아웃 설정
+ */
+@Slf4j
+@Configuration
+public class LlmConfig {
+
+    @Value("${openai.api-key:}")
+    private String apiKey;
+
+    @Value("${openai.base-url:https://api.openai.com/v1}")
+    private String baseUrl;
+
+    @Value("${openai.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${openai.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    @Value("${openai.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${openai.pool.pending-acquire-timeout-ms:10000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${openai.pool.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    /**
+     * 🍃 OpenAI 커넥션 풀
+     * - maxIdleTime 은 OpenAI 측 idle 종료보다 짧게 두어 끊긴 커넥션 재사용 방지
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider llmConnectionProvider() {
+        return ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 🍃 OpenAI 전용 WebClient
+     */
+    @Bean
+    public WebClient llmWebClient(ConnectionProvider llmConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(llmConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs))
+                .doOnConnected(conn -> conn.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        log.info("LLM WebClient 생성 - baseUrl={}, maxConnections={}, connectTimeout={}ms, readTimeout={}ms",
+                baseUrl, maxConnections, connectTimeoutMs, readTimeoutMs);
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+}
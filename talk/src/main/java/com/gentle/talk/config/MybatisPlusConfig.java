@@ -0,0 +1,25 @@
+package com.gentle.talk.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.OptimisticLockerInnerInterceptor;
+
+/**
+ * 🍃 MyBatis Plus 설정
+ * ✅ 낙관적 락 (@Version)
+ *    - updateById 시 WHERE version = ? 조건 추가 + version 자동 증가
+ *    - 페이징은 PageHelper 를 사용하므로 PaginationInnerInterceptor 는 등록하지 않음
+ */
+@Configuration
+public class MybatisPlusConfig {
+
+    @Bean
+    public MybatisPlusInterceptor mybatisPlusInterceptor() {
+        MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
+        interceptor.addInnerInterceptor(new OptimisticLockerInnerInterceptor());
+        return interceptor;
+    }
+
+}
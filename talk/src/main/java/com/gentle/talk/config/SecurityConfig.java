@@ -1,12 +1,8 @@
 package com.gentle.talk.config;
 
-import javax.sql.DataSource;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.BadSqlGrammarException;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -17,14 +13,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
-import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
 
 import com.gentle.talk.security.handler.CustomAccessDeniedHandler;
 import com.gentle.talk.security.handler.CustomAuthenticationSuccessHandler;
 import com.gentle.talk.security.handler.CustomLogoutSuccessHandler;
 import com.gentle.talk.security.handler.CustomRememberMeServices;
 import com.gentle.talk.security.handler.LoginFailureHandler;
+import com.gentle.talk.security.rememberme.CachedPersistentTokenRepository;
 import com.gentle.talk.security.handler.LoginSuccessHandler;
 import com.gentle.talk.security.jwt.JwtAuthenticationFilter;
 import com.gentle.talk.service.users.CustomDetailsService;
@@ -38,13 +33,14 @@ import lombok.extern.slf4j.Slf4j;
 @EnableMethodSecurity(securedEnabled = true, prePostEnabled = true)
 public class SecurityConfig {
 
-    @Autowired private DataSource dataSource;
     @Autowired private CustomDetailsService customDetailsService;
     @Autowired private LoginSuccessHandler loginSuccessHandler;
     @Autowired private CustomAuthenticationSuccessHandler customAuthenticationSuccessHandler;
     @Autowired private CustomLogoutSuccessHandler logoutSuccessHandler;
     @Autowired private LoginFailureHandler loginFailureHandler;
     @Autowired private CustomAccessDeniedHandler customAccessDeniedHandler;
+    // 자동 로그인 저장소 (persistent_logins + 메모리 캐시, 테이블은 Flyway 로 생성)
+    @Autowired private CachedPersistentTokenRepository tokenRepository;
     @Autowired private JwtAuthenticationFilter jwtAuthenticationFilter;
 
 
@@ -90,7 +86,7 @@ public class SecurityConfig {
                 .rememberMe(rememberMe -> rememberMe
                                 .key("ckauto")
                                 .rememberMeServices(customRememberMeServices())
-                                .tokenRepository(tokenRepository())
+                                .tokenRepository(tokenRepository)
                                 .userDetailsService(customDetailsService)
                                 .authenticationSuccessHandler(customAuthenticationSuccessHandler)
                                 .tokenValiditySeconds(60 * 60 * 24 * 30) // 30일
@@ -140,59 +136,13 @@ public class SecurityConfig {
     }
 
 
-     /**
-    * 🍃 자동 로그인 저장소 빈 등록
-    * ✅ 데이터 소스
-    * ⭐ persistent_logins 테이블 생성
-            create table persistent_logins (
-                username varchar(64) not null
-                , series varchar(64) primary key
-                , token varchar(64) not null
-                , last_used timestamp not null
-            );
-    * 🔄 자동 로그인 프로세스
-    * ✅ 로그인 시 
-    *     ➡ 👩‍💼(ID, 시리즈, 토큰) 저장
-    * ✅ 로그아웃 시, 
-    *     ➡ 👩‍💼(ID, 시리즈, 토큰) 삭제
-    * @return
-    */
-    @Bean
-    public PersistentTokenRepository tokenRepository() {
-        // JdbcTokenRepositoryImpl : 토큰 저장 데이터 베이스를 등록하는 객체
-        JdbcTokenRepositoryImpl repositoryImpl = new JdbcTokenRepositoryImpl();
-        // ✅ 토큰 저장소를 사용하는 데이터 소스 지정
-        // - 시큐리티가 자동 로그인 프로세스를 처리하기 위한 DB를 지정합니다.
-        repositoryImpl.setDataSource(dataSource);   
-        // 서버 실행 시, 자동 로그인 테이블 자동 생성
-        // repositoryImpl.setCreateTableOnStartup(true);
-
-        // persistent_logins 테이블 생성
-        try {
-            JdbcTemplate jdbcTemplate =  repositoryImpl.getJdbcTemplate();
-            if( jdbcTemplate == null ) {
-                jdbcTemplate = new JdbcTemplate(dataSource);
-                repositoryImpl.setJdbcTemplate(jdbcTemplate);
-            }
-            jdbcTemplate.execute(JdbcTokenRepositoryImpl.CREATE_TABLE_SQL);
-        } 
-        catch (BadSqlGrammarException e) {
-            log.error("persistent_logins 테이블이 이미 존재합니다.");   
-        }
-        catch (Exception e) {
-            log.error("자동 로그인 테이블 생성 중 , 예외 발생");
-        }
-        return repositoryImpl;
-    }
-
-
     /**
      * 🍃 사용자 정의 자동 로그인 서비스 빈 등록
      * @return
      */
     @Bean
     public CustomRememberMeServices customRememberMeServices() {
-        return new CustomRememberMeServices("ckauto", customDetailsService, tokenRepository());
+        return new CustomRememberMeServices("ckauto", customDetailsService, tokenRepository);
     }
   
 }
@@ -0,0 +1,70 @@
+package com.gentle.talk.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 SMS(Aligo) HTTP 클라이언트 설정
+ * ✅ 애플리케이션 전체에서 하나의 커넥션 풀을 공유
+ *    - 문자마다 HttpClients.createDefault() 를 만들면 커넥션 풀 + TLS 핸드셰이크가 매번 발생하고 닫히지도 않음
+ * ✅ keep-alive, 연결/읽기/풀 대기 타임아웃 설정
+ */
+@Slf4j
+@Configuration
+public class SmsConfig {
+
+    @Value("${aligo.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${aligo.read-timeout-ms:10000}")
+    private int readTimeoutMs;
+
+    @Value("${aligo.pool.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${aligo.pool.acquire-timeout-ms:3000}")
+    private int acquireTimeoutMs;
+
+    @Value("${aligo.pool.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    /**
+     * 🍃 Aligo 전용 HttpClient (종료 시 close)
+     * - 대상 호스트가 하나이므로 호스트당 최대 연결 수 = 전체 최대 연결 수
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient smsHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .setConnectionRequestTimeout(acquireTimeoutMs)
+                .build();
+
+        log.info("SMS HttpClient 생성 - maxConnections={}, connectTimeout={}ms, readTimeout={}ms",
+                maxConnections, connectTimeoutMs, readTimeoutMs);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(maxIdleTimeMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+}
@@ -5,7 +5,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.gentle.talk.domain.common.SystemStatistics;
 import com.gentle.talk.domain.users.Users;
+import com.gentle.talk.service.common.StatisticsService;
 import com.gentle.talk.service.users.UserService;
 import com.github.pagehelper.PageInfo;
 import com.gentle.talk.domain.common.QueryParams;
@@ -27,6 +29,9 @@ public class AdminController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private StatisticsService statisticsService;
+
     @Operation(summary = "전체 사용자 목록 조회", description = "관리자용 전체 사용자 목록을 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -174,10 +179,12 @@ public class AdminController {
                 return ResponseEntity.notFound().build();
             }
             
+            Boolean prevEnabled = existingUser.getEnabled();
             existingUser.setEnabled(enabled);
             boolean result = userService.updateById(existingUser);
             
             if (result) {
+                statisticsService.userEnabledChanged(prevEnabled, enabled);
                 String status = enabled ? "활성화" : "비활성화";
                 log.info("관리자 - 사용자 계정 {} 성공 - no: {}", status, no);
                 return ResponseEntity.ok("사용자 계정이 성공적으로 " + status + "되었습니다.");
@@ -212,6 +219,7 @@ public class AdminController {
             
             boolean result = userService.delete(no);
             if (result) {
+                statisticsService.userDeleted(existingUser.getEnabled());
                 log.info("관리자 - 사용자 삭제 성공 - no: {}, username: {}", no, existingUser.getUsername());
                 return ResponseEntity.ok("사용자가 성공적으로 삭제되었습니다.");
             } else {
@@ -277,27 +285,12 @@ public class AdminController {
     public ResponseEntity<Object> getSystemStatistics() {
         
         try {
-            // 전체 사용자 수 조회
-            PageInfo<Users> allUsers = userService.page(1, Integer.MAX_VALUE);
-            
-            // 활성 사용자 수 계산
-            long activeUserCount = allUsers.getList().stream()
-                    .filter(user -> user.getEnabled() != null && user.getEnabled())
-                    .count();
-            
-            // 비활성 사용자 수 계산
-            long inactiveUserCount = allUsers.getTotal() - activeUserCount;
-            
-            // 통계 정보 생성
-            var statistics = new Object() {
-                public final long totalUsers = allUsers.getTotal();
-                public final long activeUsers = activeUserCount;
-                public final long inactiveUsers = inactiveUserCount;
-                public final String lastUpdated = java.time.LocalDateTime.now().toString();
-            };
+            // 메모리 카운터 기반 통계 (회원 전체를 조회하지 않음)
+            SystemStatistics statistics = statisticsService.snapshot();
             
-            log.info("관리자 - 시스템 통계 조회 성공 - 총 사용자: {}, 활성: {}, 비활성: {}", 
-                    statistics.totalUsers, statistics.activeUsers, statistics.inactiveUsers);
+            log.info("관리자 - 시스템 통계 조회 성공 - 총 사용자: {}, 활성: {}, 비활성: {}, 이슈: {}, 협상: {}", 
+                    statistics.getTotalUsers(), statistics.getActiveUsers(), statistics.getInactiveUsers(),
+                    statistics.getTotalIssues(), statistics.getTotalNegotiations());
             
             return ResponseEntity.ok(statistics);
         } catch (Exception e) {
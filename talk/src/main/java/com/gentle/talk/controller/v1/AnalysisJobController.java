@@ -0,0 +1,61 @@
+package com.gentle.talk.controller.v1;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gentle.talk.domain.core.AnalysisJob;
+import com.gentle.talk.service.core.AnalysisJobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/jobs")
+@RequiredArgsConstructor
+@Tag(name = "분석 작업 API", description = "이슈 AI 분석 비동기 작업 조회 API")
+public class AnalysisJobController {
+
+    private final AnalysisJobService analysisJobService;
+
+    @GetMapping("/{id}")
+    @Operation(summary = "분석 작업 조회", description = "작업 ID로 분석 작업 상태를 조회합니다 (polling)")
+    public ResponseEntity<?> getJob(@PathVariable("id") String id) {
+        log.info("## 분석 작업 조회 ##");
+        log.info("jobId={}", id);
+
+        try {
+            AnalysisJob job = analysisJobService.selectByJobId(id);
+            if (job != null) {
+                return ResponseEntity.ok(job);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            log.error("분석 작업 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body("서버 오류: " + e.getMessage());
+        }
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "분석 작업 구독", description = "분석 작업 상태 변경을 Server-Sent Events 로 전달합니다")
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable("id") String id) {
+        log.info("## 분석 작업 구독 ##");
+        log.info("jobId={}", id);
+
+        try {
+            return ResponseEntity.ok(analysisJobService.subscribe(id));
+        } catch (IllegalArgumentException e) {
+            log.warn("분석 작업 없음: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+}
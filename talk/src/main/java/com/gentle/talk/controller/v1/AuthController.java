@@ -1,8 +1,7 @@
 package com.gentle.talk.controller.v1;
 
 import com.gentle.talk.domain.users.Users;
-import com.gentle.talk.security.jwt.JwtTokenProvider;
-import com.gentle.talk.service.core.IssueService;
+import com.gentle.talk.service.users.RefreshTokenService;
 import com.gentle.talk.service.users.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
@@ -30,9 +30,8 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
-    private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
-    private final IssueService issueService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "사용자명과 비밀번호로 로그인하여 JWT 토큰 발급")
@@ -52,9 +51,10 @@ public class AuthController {
             // 2. UserDetails 조회
             UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.getUsername());
 
-            // 3. JWT 토큰 생성
-            String accessToken = jwtTokenProvider.generateAccessToken(userDetails);
-            String refreshToken = jwtTokenProvider.generateRefreshToken(userDetails);
+            // 3. JWT 토큰 생성 (새 리프레시 토큰 계열 시작)
+            RefreshTokenService.Tokens tokens = refreshTokenService.issue(userDetails);
+            String accessToken = tokens.accessToken();
+            String refreshToken = tokens.refreshToken();
 
             // 4. 사용자 정보 조회
             Users user = userService.selectByUsername(loginRequest.getUsername());
@@ -91,31 +91,24 @@ public class AuthController {
         try {
             String refreshToken = refreshRequest.getRefreshToken();
 
-            // 1. Refresh Token 유효성 검증
-            if (!jwtTokenProvider.validateToken(refreshToken)) {
-                return ResponseEntity.status(401).body(Map.of(
-                        "error", "유효하지 않은 토큰",
-                        "message", "Refresh Token이 만료되었거나 유효하지 않습니다."
-                ));
-            }
-
-            // 2. 사용자명 추출
-            String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
-
-            // 3. UserDetails 조회
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // 1. Refresh Token 검증 + 회전 (사용된 토큰은 재사용 불가)
+            RefreshTokenService.Tokens tokens = refreshTokenService.rotate(refreshToken);
 
-            // 4. 새로운 Access Token 생성
-            String newAccessToken = jwtTokenProvider.generateAccessToken(userDetails);
-
-            // 5. 응답 생성
+            // 2. 응답 생성 (새 Refresh Token 으로 교체해야 함)
             Map<String, Object> response = new HashMap<>();
-            response.put("accessToken", newAccessToken);
+            response.put("accessToken", tokens.accessToken());
+            response.put("refreshToken", tokens.refreshToken());
             response.put("tokenType", "Bearer");
 
-            log.info("JWT 토큰 갱신 성공: {}", username);
+            log.info("JWT 토큰 갱신 성공");
             return ResponseEntity.ok(response);
 
+        } catch (AuthenticationException e) {
+            log.warn("JWT 토큰 갱신 거부: {}", e.getMessage());
+            return ResponseEntity.status(401).body(Map.of(
+                    "error", "유효하지 않은 토큰",
+                    "message", e.getMessage()
+            ));
         } catch (Exception e) {
             log.error("JWT 토큰 갱신 실패", e);
             return ResponseEntity.status(401).body(Map.of(
@@ -125,6 +118,30 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "Refresh Token 계열을 폐기합니다. 같은 계열의 Access Token 도 더 이상 사용할 수 없습니다.")
+    public ResponseEntity<?> logout(@RequestBody RefreshRequest refreshRequest) {
+        log.info("## JWT 로그아웃 요청 ##");
+
+        try {
+            boolean result = refreshTokenService.revoke(refreshRequest.getRefreshToken());
+            if (!result) {
+                return ResponseEntity.status(401).body(Map.of(
+                        "error", "유효하지 않은 토큰",
+                        "message", "Refresh Token이 만료되었거나 유효하지 않습니다."
+                ));
+            }
+            return ResponseEntity.ok(Map.of("message", "로그아웃되었습니다."));
+
+        } catch (Exception e) {
+            log.error("JWT 로그아웃 실패", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", "로그아웃 실패",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
     /**
      * 현재 로그인 사용자 정보 조회
      */
@@ -318,13 +335,7 @@ public class AuthController {
             boolean result = userService.join(users);
 
             if (result) {
-                // 🔥 여기서 실제 저장된 회원 정보 다시 조회 (no 포함)
-                Users saved = userService.selectByUsername(users.getUsername());
-                if (saved != null && saved.getTel() != null && !saved.getTel().isBlank()) {
-                // 🔥 이 사람의 전화번호로 저장된 issues.opponent_contact 들을
-                //     opponent_user_no = saved.no 로 매핑
-                issueService.linkOpponentIssuesAfterSignup(saved);
-            }
+                // 상대방 이슈 연결(opponent_user_no 매핑)은 가입 커밋 이후 비동기 처리 (UserJoinedEvent)
                 return ResponseEntity.status(HttpStatus.CREATED).build();
             } else {
                 return ResponseEntity
@@ -1,9 +1,16 @@
 package com.gentle.talk.controller.v1;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,9 +22,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.domain.core.AnalysisJob;
 import com.gentle.talk.domain.core.Issue;
 import com.gentle.talk.domain.users.Users;
+import com.gentle.talk.service.core.AnalysisJobService;
 import com.gentle.talk.service.core.IssueService;
 import com.gentle.talk.service.users.UserService;
 import com.github.pagehelper.PageInfo;
@@ -26,6 +36,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -36,6 +47,7 @@ public class IssueController {
 
     private final IssueService issueService;
     private final UserService userService;
+    private final AnalysisJobService analysisJobService;
 
     @PostMapping
     @Operation(summary = "이슈 등록", description = "새로운 협상 이슈를 등록합니다")
@@ -50,10 +62,7 @@ public class IssueController {
         // Not Null 필드 기본 값 설정
         issue.setOpponentName(" ");
         issue.setOpponentContact(" ");
-        // issue_code 비어 있으면 자동 생성
-        if (issue.getIssueCode() == null || issue.getIssueCode().isBlank()) {
-                issue.setIssueCode(generateIssueCode());
-        }
+        // issue_code 비어 있으면 서비스에서 자동 생성
         
         try {
             boolean result = issueService.register(issue);
@@ -68,11 +77,6 @@ public class IssueController {
         }
     }
 
-    private String generateIssueCode() {
-    // 형식은 원하는 대로: 날짜 + 시퀀스, UUID 등
-    return "ISSUE-" + System.currentTimeMillis();
-    }
-
     @GetMapping("/{no}")
     @Operation(summary = "이슈 조회", description = "이슈 번호로 이슈를 조회합니다")
     public ResponseEntity<?> getIssue(@PathVariable("no") Long no) {
@@ -125,8 +129,16 @@ public class IssueController {
         log.info("queryParams={}", queryParams);
 
         try {
+            // cursor 파라미터가 있으면 커서(keyset) 페이징
+            if (queryParams.isCursorMode()) {
+                CursorPage<Issue> cursorPage = issueService.cursorPage(queryParams);
+                return ResponseEntity.ok(cursorPage);
+            }
             PageInfo<Issue> pageInfo = issueService.page(queryParams);
             return ResponseEntity.ok(pageInfo);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("이슈 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().body("서버 오류: " + e.getMessage());
@@ -268,12 +280,19 @@ public class IssueController {
     /** 
      * conflict_situation, requirements
      * 요약 + 핵심 쟁점 리스트(analaysis_result)를 반환하는 엔드포인트
+     * - async=true : 분석 작업을 큐에 등록하고 202 + 작업 ID 반환
+     *                (GET /api/v1/jobs/{id} 또는 /api/v1/jobs/{id}/events 로 결과 확인)
      */
     @PostMapping("/{no}/analyze")
     @Operation(summary = "요약 분석", description = "ai를 통해 이슈의 요약과 핵심 쟁점을 분석합니다")
-    public ResponseEntity<?> analyzeIssue(@PathVariable("no") Long no) {
+    public ResponseEntity<?> analyzeIssue(@PathVariable("no") Long no,
+                                          @RequestParam(name = "async", defaultValue = "false") boolean async) {
         log.info("## AI - 요약 분석 요청 ##");
-        log.info("issueNo={}", no);
+        log.info("issueNo={}, async={}", no, async);
+
+        if (async) {
+            return enqueueAnalysis(no);
+        }
 
         try {
             Issue updated = issueService.analyzeIssue(no);
@@ -281,12 +300,68 @@ public class IssueController {
         } catch (IllegalArgumentException e) {
             log.error("Invalid issueId: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("이슈 분석 충돌: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             log.error("Error analyzing issue: ", e);
             return ResponseEntity.status(500).body("AI 분석 중 오류 발생");
         }
     }
 
+    /**
+     * 협상 메시지 스트리밍 생성 (Server-Sent Events)
+     * - event: token → 생성된 토큰 조각
+     * - event: done  → 스트림 종료 (메시지는 이슈에 저장됨)
+     * - event: error → 생성 실패
+     */
+    @PostMapping(value = "/{no}/negotiation-message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "협상 메시지 스트리밍", description = "ai가 생성하는 협상 메시지를 토큰 단위로 전달합니다")
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamNegotiationMessage(@PathVariable("no") Long no) {
+        log.info("## AI - 협상 메시지 스트리밍 요청 ##");
+        log.info("issueNo={}", no);
+
+        try {
+            Flux<ServerSentEvent<String>> events = issueService.streamNegotiationMessage(no)
+                    .map(token -> ServerSentEvent.builder(token).event("token").build())
+                    .concatWith(Flux.just(ServerSentEvent.builder("").event("done").build()))
+                    .onErrorResume(e -> {
+                        log.error("협상 메시지 스트리밍 중 오류 발생 issueNo={}", no, e);
+                        return Flux.just(ServerSentEvent.builder("AI 협상 메시지 생성 중 오류 발생").event("error").build());
+                    });
+            return ResponseEntity.ok(events);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid issueId: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            log.error("협상 메시지 생성 불가: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private ResponseEntity<?> enqueueAnalysis(Long no) {
+        try {
+            AnalysisJob job = analysisJobService.enqueue(no);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/jobs/" + job.getId()))
+                    .body(Map.of(
+                            "jobId", job.getId(),
+                            "issueNo", job.getIssueNo(),
+                            "status", job.getStatus()
+                    ));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid issueId: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "10")
+                    .body("분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (Exception e) {
+            log.error("분석 작업 등록 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body("서버 오류: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{no}/opponent")
     public ResponseEntity<?> updateOpponent(@PathVariable("no") Long no, @RequestBody Map<String, String> body) {
         log.info("## 상대방 정보 업데이트 ##");
@@ -309,14 +384,22 @@ public class IssueController {
     @GetMapping("/user/{userNo}")
     @Operation(
         summary = "회원의 이슈 목록",
-        description = "회원이 발신자 또는 상대방으로 참여한 이슈 목록을 조회합니다"
+        description = "회원이 발신자 또는 상대방으로 참여한 이슈 목록을 최신순으로 조회합니다 (cursor 파라미터가 있으면 커서 페이징)"
     )
-    public ResponseEntity<?> getIssuesByUser(@PathVariable("userNo") Long userNo) {
+    public ResponseEntity<?> getIssuesByUser(@PathVariable("userNo") Long userNo, QueryParams queryParams) {
         log.info("## 회원의 이슈 목록 조회 (발신 + 수신) ## userNo={}", userNo);
 
         try {
+            // cursor 파라미터가 있으면 커서(keyset) 페이징
+            if (queryParams.isCursorMode()) {
+                queryParams.setUserNo(userNo);
+                return ResponseEntity.ok(issueService.myIssuesCursorPage(queryParams));
+            }
             List<Issue> issues = issueService.selectMyIssues(userNo);
             return ResponseEntity.ok(issues);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("회원 이슈 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().body("서버 오류: " + e.getMessage());
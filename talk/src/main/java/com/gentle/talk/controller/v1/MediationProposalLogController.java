@@ -6,6 +6,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -248,6 +250,10 @@ public class MediationProposalLogController {
             log.error("잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("중재안 저장 충돌: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+
         } catch (RuntimeException e) {
             log.error("AI 중재안 생성 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("중재안 생성 실패: " + e.getMessage());
@@ -3,6 +3,7 @@ package com.gentle.talk.controller.v1;
 import com.gentle.talk.domain.core.Negotiation;
 import com.gentle.talk.service.core.NegotiationService;
 import com.github.pagehelper.PageInfo;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -97,8 +98,16 @@ public class NegotiationController {
         log.info("queryParams={}", queryParams);
 
         try {
+            // cursor 파라미터가 있으면 커서(keyset) 페이징
+            if (queryParams.isCursorMode()) {
+                CursorPage<Negotiation> cursorPage = negotiationService.cursorPage(queryParams);
+                return ResponseEntity.ok(cursorPage);
+            }
             PageInfo<Negotiation> pageInfo = negotiationService.page(queryParams);
             return ResponseEntity.ok(pageInfo);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("협상 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError().body("서버 오류: " + e.getMessage());
@@ -1,6 +1,7 @@
 package com.gentle.talk.controller.v1;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.LinkedMultiValueMap;
@@ -47,12 +48,13 @@ public class SMSController {
      *  - msg       : 문자메시지
      *  - receiver  : 받는번호1,받는번호2, ...      
      *              ex) 01011112222,01033334444
+     * ✅ 발송은 smsExecutor 에서 비동기로 처리 (요청 스레드는 Aligo 응답을 기다리지 않음)
      * @param param
      * @return
      */
     @PostMapping("/send")
     @ResponseBody
-    public String sendSMS(@RequestParam MultiValueMap<String, String> param) {
+    public CompletableFuture<String> sendSMS(@RequestParam MultiValueMap<String, String> param) {
         log.info("msg : " + param.getFirst("msg"));  
         log.info("receiver : " + param.get("receiver").toString());
         log.info("rdate : " + param.getFirst("rdate"));  
@@ -62,18 +64,30 @@ public class SMSController {
         // ✅ 이슈 번호 받기 (없으면 null)
         String issueNoStr = param.getFirst("issueNo");
         log.info("issueNo : " + issueNoStr);
-        Long issueNo = null;
+        Long parsedIssueNo = null;
         if (issueNoStr != null && !issueNoStr.isEmpty()) {
             try {
-                issueNo = Long.valueOf(issueNoStr);
+                parsedIssueNo = Long.valueOf(issueNoStr);
             } catch (NumberFormatException e) {
                 log.warn("잘못된 issueNo 값: {}", issueNoStr);
             }
         }
 
-        // 문자 전송 요청
-        Map<String, Object> resultMap = smsService.send(param);
-        
+        final Long issueNo = parsedIssueNo;
+
+        // 문자 전송 요청 (비동기)
+        return smsService.sendAsync(param)
+                .thenApply(resultMap -> afterSend(resultMap, issueNo))
+                .exceptionally(e -> {
+                    log.error("문자 전송 요청 실패", e);
+                    return "문자 전송 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.";
+                });
+    }
+
+    /**
+     * 문자 전송 결과 처리
+     */
+    private String afterSend(Map<String, Object> resultMap, Long issueNo) {
         Object resultCode = resultMap.get("result_code");
         Integer result_code = Integer.valueOf( resultCode != null ? resultCode.toString() : "-1" );
         String message = (String) resultMap.get("message");
@@ -87,9 +101,12 @@ public class SMSController {
         // ⭕ 전송 성공- 분석완료➡상대방대기
         if (issueNo != null) {
             try {
-                issueService.updateStatus(issueNo, "상대방대기");  // 👉 서비스 호출
-                issueService.updateFlag(issueNo, "Y");
-                log.info("Issue[{}] 상태를 '상대방대기'로 변경 완료", issueNo);
+                // 👉 상태 + flag 한 번에 변경
+                if (issueService.transitionStatus(issueNo, "상대방대기", "Y")) {
+                    log.info("Issue[{}] 상태를 '상대방대기'로 변경 완료", issueNo);
+                } else {
+                    log.warn("Issue[{}] 상태를 '상대방대기'로 변경하지 못함 (현재 상태에서 허용되지 않거나 다른 요청이 먼저 변경)", issueNo);
+                }
             } catch (Exception e) {
                 log.error("Issue[{}] 상태 변경 중 오류", issueNo, e);
             }
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.*;
 import com.gentle.talk.domain.users.Users;
 import com.gentle.talk.service.users.UserService;
 import com.github.pagehelper.PageInfo;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,21 +35,33 @@ public class UserController {
     })
     @GetMapping
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<PageInfo<Users>> getUserList(
+    public ResponseEntity<?> getUserList(
             @Parameter(description = "페이지 번호", example = "1") @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword) {
+            @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword,
+            @Parameter(description = "커서 (지정 시 커서 페이징, 빈 값 = 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "전체 수 조회 여부") @RequestParam(required = false) Boolean withCount) {
         
         try {
             QueryParams queryParams = new QueryParams();
             queryParams.setPage(page);
             queryParams.setSize(size);
             queryParams.setSearch(keyword);
+            queryParams.setCursor(cursor);
+            queryParams.setWithCount(withCount);
+
+            if (queryParams.isCursorMode()) {
+                CursorPage<Users> cursorPage = userService.cursorPage(queryParams);
+                return ResponseEntity.ok(cursorPage);
+            }
             
             PageInfo<Users> userList = userService.page(queryParams);
             log.info("사용자 목록 조회 성공 - 총 {}건", userList.getTotal());
             
             return ResponseEntity.ok(userList);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("사용자 목록 조회 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -0,0 +1,27 @@
+package com.gentle.talk.domain.common;
+
+import java.util.List;
+
+import com.github.pagehelper.PageInfo;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * [페이지 정보 + 전체 수 근사 여부]
+ * ✅ approximateTotal
+ * - false : 이번 요청에서 COUNT 로 구한 정확한 전체 수
+ * - true  : 캐시된 전체 수 (짧은 TTL 동안 실제와 다를 수 있음)
+ */
+@Getter
+@Setter
+public class CountedPageInfo<E> extends PageInfo<E> {
+
+    private boolean approximateTotal;
+
+    public CountedPageInfo(List<E> list, boolean approximateTotal) {
+        super(list);
+        this.approximateTotal = approximateTotal;
+    }
+
+}
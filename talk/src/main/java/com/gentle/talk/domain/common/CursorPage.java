@@ -0,0 +1,67 @@
+package com.gentle.talk.domain.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * [커서 페이지 (keyset)]
+ * ✅ 응답 정보
+ * - 데이터 목록             : list
+ * - 데이터 수               : size
+ * - 다음 페이지 여부        : hasNext
+ * - 다음 페이지 커서        : nextCursor  (다음 요청의 cursor 로 그대로 전달)
+ * - 전체 데이터 수          : total       (withCount=true 인 경우만, 그 외 null)
+ *
+ * ⭐ 커서 = base64url("created_at(ms):no") - 정렬 기준 (created_at DESC, no DESC)
+ * ⚠ created_at 컬럼 정밀도가 ms 이하여야 함 (DDL: TIMESTAMP = 초 단위)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<E> {
+
+    private List<E> list;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long total;
+
+    /**
+     * 커서 인코딩
+     */
+    public static String encodeCursor(Date createdAt, Long no) {
+        String raw = createdAt.getTime() + ":" + no;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩 → QueryParams 에 커서 모드 조회 조건(Keyset) 설정
+     * - 빈 커서는 첫 페이지
+     * @param limit 조회 건수 (size + 1)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static void applyCursor(QueryParams queryParams, int limit) {
+        String cursor = queryParams.getCursor();
+        if (cursor == null || cursor.isBlank()) {
+            queryParams.applyKeyset(new Keyset(null, null, limit));
+            return;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            Date createdAt = new Date(Long.parseLong(raw.substring(0, sep)));
+            Long no = Long.parseLong(raw.substring(sep + 1));
+            queryParams.applyKeyset(new Keyset(createdAt, no, limit));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다. cursor=" + cursor);
+        }
+    }
+
+}
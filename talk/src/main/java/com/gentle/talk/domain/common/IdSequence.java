@@ -0,0 +1,25 @@
+package com.gentle.talk.domain.common;
+
+import org.apache.ibatis.type.Alias;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 번호 블록 임대 (id_sequences)
+ * - name      : 시퀀스 이름
+ * - blockSize : 한 번에 가져갈 번호 수
+ * - end       : 임대 후 next_value (이번 블록 = [end - blockSize, end))
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Alias("IdSequence")
+public class IdSequence {
+
+    private String name;
+    private long blockSize;
+    private Long end;
+
+}
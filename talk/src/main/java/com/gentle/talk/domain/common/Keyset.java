@@ -0,0 +1,11 @@
+package com.gentle.talk.domain.common;
+
+import java.util.Date;
+
+/**
+ * 커서(keyset) 페이징 조회 조건 (내부용)
+ * - CursorPage.applyCursor 에서만 설정 → 요청 파라미터로 바인딩되지 않음
+ * - createdAt / no : 디코딩된 커서 (첫 페이지는 null)
+ * - limit          : 조회 건수 (size + 1)
+ */
+public record Keyset(Date createdAt, Long no, int limit) {}
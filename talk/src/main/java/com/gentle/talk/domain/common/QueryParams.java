@@ -2,11 +2,13 @@ package com.gentle.talk.domain.common;
 
 import java.util.List;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 @Data
-@Builder
 public class QueryParams {
     private Integer page;                   // 현재 페이지 번호
     private Integer size;                  // 페이지당 데이터 수
@@ -15,6 +17,17 @@ public class QueryParams {
     private List<String> sortBy;            // 정렬 기준 (예: "name", "createdAt")
     private List<String> sortOrder;         // 정렬 순서 (asc 또는 desc)
     private Integer filter;         // 필터링 기준 (1,2,3,4)
+    private Long userNo;                    // 회원 번호 필터
+    private String status;                  // 상태 필터
+    private Long issueNo;                   // 이슈 번호 필터
+    private Boolean includeUsers;           // 회원 정보(JOIN) 포함 여부 (기본 true)
+
+    // 커서(keyset) 페이징 - cursor 파라미터가 있으면 (빈 값 = 첫 페이지) 커서 모드
+    private String cursor;                  // 불투명 커서 (CursorPage.nextCursor)
+    private Boolean withCount;              // 전체 수 조회 여부 (OFFSET 모드 기본 true, 커서 모드 기본 false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Keyset keyset;                  // 커서 모드 조회 조건 (내부용 - getter/setter 가 없어 요청 파라미터로 바인딩되지 않음)
 
     public QueryParams() {
         this.page = 1;
@@ -24,13 +37,50 @@ public class QueryParams {
         this.sortOrder = null;
     }
 
-    public QueryParams(Integer page, Integer size, String search, String sort, List<String> sortBy, List<String> sortOrder, Integer filter) {
+    @Builder
+    public QueryParams(Integer page, Integer size, String search, String sort, List<String> sortBy, List<String> sortOrder, Integer filter,
+                       Long userNo, String status, Long issueNo, Boolean includeUsers,
+                       String cursor, Boolean withCount) {
         this.page = page == null ? 1 : page;
         this.size = size == null ? 10 : size;
         this.search = search;
         this.sort = sort;
         this.sortBy = sortBy;
         this.sortOrder = sortOrder;
+        this.userNo = userNo;
+        this.status = status;
+        this.issueNo = issueNo;
+        this.includeUsers = includeUsers;
+        this.cursor = cursor;
+        this.withCount = withCount;
+    }
+
+    /**
+     * 커서(keyset) 페이징 모드 여부
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    /**
+     * 커서 모드 조회 조건 (매퍼에서는 keyset 필드로 참조)
+     */
+    public Keyset activeKeyset() {
+        return keyset;
+    }
+
+    /**
+     * 커서 모드 조회 조건 설정 (CursorPage.applyCursor)
+     */
+    void applyKeyset(Keyset keyset) {
+        this.keyset = keyset;
+    }
+
+    /**
+     * 커서 모드 조회 조건 제거 (OFFSET 페이징 / COUNT 조회 전)
+     */
+    public void clearKeyset() {
+        this.keyset = null;
     }
     
 }
@@ -0,0 +1,20 @@
+package com.gentle.talk.domain.common;
+
+import org.apache.ibatis.type.Alias;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * [상태별 건수]
+ * - GROUP BY 집계 결과 (status, count)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Alias("StatusCount")
+public class StatusCount {
+    private String status;      // 상태 (그룹 키)
+    private long count;         // 건수
+}
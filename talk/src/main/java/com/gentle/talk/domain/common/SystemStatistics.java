@@ -0,0 +1,31 @@
+package com.gentle.talk.domain.common;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * [시스템 통계]
+ * ✅ 회원       : totalUsers, activeUsers, inactiveUsers
+ * ✅ 이슈       : totalIssues, issuesByStatus
+ * ✅ 협상       : totalNegotiations, negotiationsByStatus
+ * ✅ AI 호출    : llmCalls (outcome 별 호출 수, 서버 기동 이후)
+ * ⭐ reconciledAt : 마지막 DB 집계 시각 / lastUpdated : 응답 생성 시각
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SystemStatistics {
+    private long totalUsers;
+    private long activeUsers;
+    private long inactiveUsers;
+    private long totalIssues;
+    private Map<String, Long> issuesByStatus;
+    private long totalNegotiations;
+    private Map<String, Long> negotiationsByStatus;
+    private Map<String, Long> llmCalls;
+    private String reconciledAt;
+    private String lastUpdated;
+}
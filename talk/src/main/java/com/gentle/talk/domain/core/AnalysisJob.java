@@ -0,0 +1,40 @@
+package com.gentle.talk.domain.core;
+
+import java.time.LocalDateTime;
+
+import org.apache.ibatis.type.Alias;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.gentle.talk.domain.Base;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("analysis_jobs")    
+@Alias("AnalysisJob")        
+public class AnalysisJob extends Base {
+
+  @TableId(type = IdType.AUTO)
+  private Long no;                      // PK
+  private String id;                    // UK (작업 ID)
+  private Long issueNo;                 // FK (이슈)
+
+  private String status;                // 상태 (대기, 분석중, 분석완료, 분석실패)
+  private String errorMessage;          // 실패 사유
+  private Integer attempts;             // 실행 횟수
+  private String workerId;              // 실행 서버 ID
+
+  private LocalDateTime startedAt;      // 시작일시
+  private LocalDateTime finishedAt;     // 종료일시
+
+}
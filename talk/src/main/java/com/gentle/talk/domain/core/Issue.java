@@ -6,6 +6,7 @@ import com.baomidou.mybatisplus.annotation.IdType;
 import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.annotation.Version;
 import com.gentle.talk.domain.Base;
 import com.gentle.talk.domain.users.Users;
 
@@ -48,6 +49,9 @@ public class Issue extends Base {
   private String status;                    // 상태 (대기, 분석중, 분석완료, 상대방 대기, 중재안제시, 협상완료)
   private String negotiationMessage;        // 협상 메시지
   private String flag;                      // 플래그 (Y/N)
+
+  @Version
+  private Integer version;                  // 낙관적 락 버전
   
   // 조인용 필드
   @TableField(exist = false)
@@ -58,5 +62,12 @@ public class Issue extends Base {
 
   @TableField(exist = false)
   private String username;                  // 요청자 이름 (조인용)
+
+  // 검색용 필드
+  @TableField(exist = false)
+  private Double relevance;                 // 검색 관련도 (FULLTEXT)
+
+  @TableField(exist = false)
+  private String highlight;                 // 검색어 강조 스니펫
   
 }
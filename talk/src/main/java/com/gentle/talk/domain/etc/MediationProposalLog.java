@@ -33,6 +33,7 @@ public class MediationProposalLog extends Base {
   private Long categoryNo;                  // FK (카테고리)
   
   private String conflictSituationHash;     // 갈등상황 해시값
+  private Long conflictSituationSimhash;    // 갈등상황 SimHash (근사 중복 검색용)
   private String conflictSituation;         // 갈등상황 원문
   private String requirements;              // 요구사항 원문
   private String opponentRequirements;      // 상대방 요구사항 원문
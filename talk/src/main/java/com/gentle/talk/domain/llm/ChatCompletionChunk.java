@@ -0,0 +1,45 @@
+package com.gentle.talk.domain.llm;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+/**
+ * OpenAI Chat Completions 스트리밍 응답 조각 (stream: true)
+ * - data: {"choices":[{"delta":{"content":"..."}}]}
+ * - 마지막은 data: [DONE]
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionChunk {
+
+    private String id;                      // 응답 ID
+    private List<Choice> choices;           // 생성 조각
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Integer index;
+        private ChatMessage delta;
+
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    /**
+     * 첫 번째 choice 의 delta.content 추출 (없으면 빈 문자열)
+     */
+    public String firstDelta() {
+        if (choices == null || choices.isEmpty()) {
+            return "";
+        }
+        ChatMessage delta = choices.get(0).getDelta();
+        if (delta == null || delta.getContent() == null) {
+            return "";
+        }
+        return delta.getContent();
+    }
+}
@@ -0,0 +1,28 @@
+package com.gentle.talk.domain.llm;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OpenAI Chat Completions 요청 바디
+ * POST /v1/chat/completions
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatCompletionRequest {
+
+    private String model;                   // 모델명
+    private List<ChatMessage> messages;     // 메시지 목록
+    private Double temperature;             // 온도
+    private Boolean stream;                 // 스트리밍 여부
+
+}
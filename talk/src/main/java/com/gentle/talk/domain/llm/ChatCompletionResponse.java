@@ -0,0 +1,60 @@
+package com.gentle.talk.domain.llm;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+/**
+ * OpenAI Chat Completions 응답 바디
+ * - choices[0].message.content 에 생성된 텍스트
+ * - usage 에 토큰 사용량
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionResponse {
+
+    private String id;                      // 응답 ID
+    private String model;                   // 사용된 모델명
+    private List<Choice> choices;           // 생성 결과
+    private Usage usage;                    // 토큰 사용량
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Integer index;
+        private ChatMessage message;
+
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+        @JsonProperty("prompt_tokens")
+        private Integer promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private Integer completionTokens;
+
+        @JsonProperty("total_tokens")
+        private Integer totalTokens;
+    }
+
+    /**
+     * 첫 번째 choice 의 message.content 추출
+     */
+    public String firstContent() {
+        if (choices == null || choices.isEmpty()) {
+            throw new IllegalStateException("OpenAI 응답 choices가 비어 있습니다.");
+        }
+        ChatMessage message = choices.get(0).getMessage();
+        if (message == null || message.getContent() == null) {
+            throw new IllegalStateException("OpenAI 응답에 message.content가 없습니다.");
+        }
+        return message.getContent();
+    }
+}
@@ -0,0 +1,27 @@
+package com.gentle.talk.domain.llm;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OpenAI Chat Completions 메시지
+ * - role    : system, user, assistant
+ * - content : 메시지 내용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessage {
+
+    private String role;        // 역할
+    private String content;     // 내용
+
+    public static ChatMessage system(String content) {
+        return new ChatMessage("system", content);
+    }
+
+    public static ChatMessage user(String content) {
+        return new ChatMessage("user", content);
+    }
+}
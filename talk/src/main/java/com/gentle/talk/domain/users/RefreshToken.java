@@ -0,0 +1,38 @@
+package com.gentle.talk.domain.users;
+
+import java.util.Date;
+
+import org.apache.ibatis.type.Alias;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.gentle.talk.domain.Base;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("refresh_tokens")
+@Alias("RefreshToken")
+public class RefreshToken extends Base {
+
+  @TableId(type = IdType.AUTO)
+  private Long no;                // PK
+  private String id;              // UK (토큰 jti)
+  private String familyId;        // 토큰 계열 ID (로그인 1회 단위)
+  private Long userNo;            // FK (회원)
+  private String username;        // 아이디
+
+  private Date expiresAt;         // 만료일시
+  private Date usedAt;            // 갱신에 사용된 일시
+  private Date revokedAt;         // 폐기일시
+
+}
@@ -0,0 +1,13 @@
+package com.gentle.talk.mapper.common;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.gentle.talk.domain.common.IdSequence;
+
+@Mapper
+public interface IdSequenceMapper {
+
+  // 번호 블록 임대 (next_value 를 blockSize 만큼 증가, 증가 후 값은 sequence.end 에 설정)
+  public int lease(IdSequence sequence);
+
+}
@@ -0,0 +1,32 @@
+package com.gentle.talk.mapper.core;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.gentle.talk.domain.core.AnalysisJob;
+
+@Mapper
+public interface AnalysisJobMapper extends BaseMapper<AnalysisJob> {
+
+  // 작업 ID로 조회
+  public AnalysisJob selectByJobId(String id);
+
+  // 작업 선점 (대기 → 분석중)
+  public int claim(@Param("no") Long no, @Param("workerId") String workerId);
+
+  // 작업 종료 (분석완료 / 분석실패)
+  public int finish(@Param("no") Long no, @Param("status") String status, @Param("errorMessage") String errorMessage);
+
+  // 이 서버가 실행하던 분석중 작업을 대기로 되돌림 (서버 재시작 복구용)
+  public int resetOwned(@Param("workerId") String workerId);
+
+  // 다른 서버가 실행하던 오래된 분석중 작업을 대기로 되돌림 (주기 복구용)
+  public int resetStale(@Param("staleMinutes") int staleMinutes, @Param("workerId") String workerId);
+
+  // 대기 중인 작업 조회 (서버 재시작 복구용)
+  public List<AnalysisJob> selectWaiting(@Param("limit") int limit);
+
+}
@@ -1,5 +1,6 @@
 package com.gentle.talk.mapper.core;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -7,6 +8,7 @@ import org.apache.ibatis.annotations.Param;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.domain.common.StatusCount;
 import com.gentle.talk.domain.core.Issue;
 
 @Mapper
@@ -21,11 +23,17 @@ public interface IssueMapper extends BaseMapper<Issue> {
   // 상대방 회원 번호로 이슈 목록 조회
   public List<Issue> selectByOpponentUserNo(Long opponentUserNo);
   
+  // 내가 참여한 이슈 목록 (발신 + 수신, 최신순) - userNo / 커서 사용
+  public List<Issue> selectMyIssues(QueryParams queryParams);
+
   // 페이징 조회
   public List<Issue> listWithParams(QueryParams queryParams);
   
   // 상태별 이슈 개수 조회
   public int countByStatus(@Param("userNo") Long userNo, @Param("status") String status);
+
+  // 전체 이슈 상태별 집계
+  public List<StatusCount> countGroupByStatus();
   
   // 최근 이슈 조회
   public List<Issue> selectRecentIssues(@Param("userNo") Long userNo, @Param("limit") int limit);
@@ -36,12 +44,28 @@ public interface IssueMapper extends BaseMapper<Issue> {
   // 분석 결과 및 상태 업데이트
   public int updateAnalysisResult(Issue issue);
 
-  // 이슈 테이블에 상대방 정보 매칭
-  public List<Issue> selectByOpponentContactWithoutUserNo(@Param("phone") String phone);
+  // 분석 시작 표시 (낙관적 락) - 현재 상태가 allowed 중 하나이거나, staleMinutes 보다 오래된 분석중일 때만
+  public int markAnalyzing(@Param("no") Long issueNo, @Param("version") Integer version,
+                           @Param("allowed") Collection<String> allowed, @Param("staleMinutes") int staleMinutes);
+
+  // 중재안 저장 (낙관적 락)
+  public int updateMediationProposals(@Param("no") Long issueNo, @Param("mediationProposals") String mediationProposals, @Param("version") Integer version);
+
+  // 이슈 테이블에 상대방 회원 번호 일괄 매칭 (아직 매칭되지 않은 이슈만)
+  public int linkOpponentUserNo(@Param("phone") String phone, @Param("userNo") Long userNo);
 
   // 상대방 의견 추가
   public int updateOpponentRequirements(@Param("no") Long issueNo, @Param("opponentRequirements") String opponentRequirements, @Param("status") String status);
 
   // 선택된 중재안 및 추가조건 저장
   public int updateRequestedMediationProposals(@Param("no") Long issueNo, @Param("selectedMediationProposal") String selectedMediationProposal, @Param("additionalConditions") String additionalConditions, @Param("status") String status);
+
+  // 상태 변경 (compare-and-set) - 현재 상태가 allowed 중 하나일 때만, flag 가 있으면 함께 변경
+  public int compareAndSetStatus(@Param("no") Long issueNo, @Param("allowed") Collection<String> allowed, @Param("status") String status, @Param("flag") String flag);
+
+  // 중재안 선택 + 상태 변경 (compare-and-set)
+  public int updateSelectedProposal(@Param("no") Long issueNo, @Param("allowed") Collection<String> allowed, @Param("selectedProposal") String selectedProposal, @Param("status") String status);
+
+  // flag 변경
+  public int updateFlag(@Param("no") Long issueNo, @Param("flag") String flag);
 }
@@ -1,5 +1,7 @@
 package com.gentle.talk.mapper.core;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -7,6 +9,7 @@ import org.apache.ibatis.annotations.Param;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.domain.common.StatusCount;
 import com.gentle.talk.domain.core.Negotiation;
 
 @Mapper
@@ -23,11 +26,18 @@ public interface NegotiationMapper extends BaseMapper<Negotiation> {
   
   // 상태별 협상 개수 조회
   public int countByStatus(@Param("userNo") Long userNo, @Param("status") String status);
+
+  // 전체 협상 상태별 집계
+  public List<StatusCount> countGroupByStatus();
   
   // 최근 협상 조회
   public List<Negotiation> selectRecentNegotiations(@Param("userNo") Long userNo, @Param("limit") int limit);
   
   // 진행 중인 협상 조회
   public List<Negotiation> selectOngoingNegotiations(Long userNo);
+
+  // 상태 변경 (compare-and-set) - 현재 상태가 allowed 중 하나일 때만, 수락/체결 일시가 있으면 함께 변경
+  public int compareAndSetStatus(@Param("no") Long negotiationNo, @Param("allowed") Collection<String> allowed, @Param("status") String status,
+                                 @Param("acceptedAt") LocalDateTime acceptedAt, @Param("finalizedAt") LocalDateTime finalizedAt);
   
 }
@@ -1,6 +1,7 @@
 package com.gentle.talk.mapper.etc;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -18,6 +19,14 @@ public interface MediationProposalLogMapper extends BaseMapper<MediationProposal
       @Param("limit") int limit
   );
   
+  // 근사 중복 후보 검색 (정확한 해시 일치 또는 SimHash 밴드 중 하나 일치, 일치 밴드 수 내림차순)
+  public List<MediationProposalLog> findNearDuplicateCandidates(
+      @Param("categoryNo") Long categoryNo,
+      @Param("conflictSituationHash") String conflictSituationHash,
+      @Param("bands") int[] bands,
+      @Param("limit") int limit
+  );
+  
   // 인기 중재안 로그 조회 (재사용 횟수 기준)
   public List<MediationProposalLog> findPopularLogs(
       @Param("categoryNo") Long categoryNo,
@@ -30,7 +39,13 @@ public interface MediationProposalLogMapper extends BaseMapper<MediationProposal
       @Param("limit") int limit
   );
   
+  // 중재안 로그 일괄 등록 (다중 행 INSERT 1회)
+  public int insertBatch(@Param("logs") List<MediationProposalLog> logs);
+
   // 재사용 횟수 증가
   public int incrementReuseCount(Long logNo);
+
+  // 재사용 횟수 일괄 반영 (rows: [{logNo, delta}, ...])
+  public int addReuseCounts(@Param("rows") List<Map<String, Long>> rows);
   
 }
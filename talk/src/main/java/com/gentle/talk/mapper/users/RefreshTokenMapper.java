@@ -0,0 +1,39 @@
+package com.gentle.talk.mapper.users;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.gentle.talk.domain.users.RefreshToken;
+
+@Mapper
+public interface RefreshTokenMapper extends BaseMapper<RefreshToken> {
+
+  // jti 로 조회
+  public RefreshToken selectByTokenId(String id);
+
+  // 갱신에 사용 처리 (사용/폐기/만료되지 않은 토큰만)
+  public int markUsed(String id);
+
+  // 토큰 계열 전체 폐기
+  public int revokeFamily(String familyId);
+
+  // 회원의 모든 토큰 계열 폐기
+  public int revokeByUserNo(Long userNo);
+
+  // 회원의 폐기되지 않은 토큰 계열 ID 목록
+  public List<String> selectActiveFamilies(Long userNo);
+
+  // 폐기된 토큰 계열 존재 여부
+  public boolean existsRevokedFamily(String familyId);
+
+  // 아직 만료되지 않은 폐기 토큰 계열 ID 목록 (since 가 있으면 그 이후 폐기분만)
+  public List<String> selectRevokedFamilies(@Param("since") Date since);
+
+  // 만료된 토큰 삭제
+  public int deleteExpired(@Param("graceDays") int graceDays);
+
+}
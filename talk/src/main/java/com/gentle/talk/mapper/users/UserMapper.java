@@ -6,6 +6,7 @@ import org.apache.ibatis.annotations.Mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.domain.common.StatusCount;
 import com.gentle.talk.domain.users.Users;
 
 @Mapper
@@ -25,5 +26,8 @@ public interface UserMapper extends BaseMapper<Users> {
 
   // 전화번호로 사용자 찾기 (상대방 찾기용)
   public Users findByPhone(String tel);
+
+  // 활성/비활성 회원 수 집계 (status: enabled / disabled)
+  public List<StatusCount> countGroupByEnabled();
   
 }
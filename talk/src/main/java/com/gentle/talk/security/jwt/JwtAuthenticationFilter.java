@@ -1,5 +1,8 @@
 package com.gentle.talk.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,11 +12,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.gentle.talk.service.users.UserDetailsCache;
+
 import java.io.IOException;
 
 @Slf4j
@@ -22,36 +26,65 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenDenyList tokenDenyList;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
-        try {
-            // 1. Request Header에서 JWT 토큰 추출
-            String token = getJwtFromRequest(request);
+        // 1. Request Header에서 JWT 토큰 추출
+        String token = getJwtFromRequest(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-            // 2. 토큰 유효성 검증
-            if (token != null && jwtTokenProvider.validateToken(token)) {
+        // 요청당 인증 비용 측정 (/actuator/metrics/auth.jwt)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            // 2. 토큰 유효성 검증 + Claim 추출 (파싱 1회)
+            Claims claims = jwtTokenProvider.parseValidClaims(token);
+            if (claims != null && JwtTokenProvider.TYPE_REFRESH.equals(claims.get(JwtTokenProvider.CLAIM_TYPE))) {
+                // Refresh Token 으로는 API 인증 불가
+                outcome = "refresh";
+            } else if (claims != null && tokenDenyList.isRevoked(claims.get(JwtTokenProvider.CLAIM_FAMILY, String.class))) {
+                // 로그아웃/폐기된 토큰 계열 (메모리 Bloom filter 확인)
+                log.debug("폐기된 토큰 계열의 JWT 요청: {}", claims.getSubject());
+                outcome = "revoked";
+            } else if (claims != null) {
                 // 3. 토큰에서 사용자명 추출
-                String username = jwtTokenProvider.getUsernameFromToken(token);
+                String username = claims.getSubject();
 
-                // 4. UserDetails 조회
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // 4. UserDetails 조회 (캐시 → 없으면 DB)
+                UserDetails userDetails = userDetailsCache.get(username);
+                if (!userDetails.isEnabled()) {
+                    // 비활성화된 계정은 인증하지 않음
+                    log.warn("비활성화된 계정의 JWT 요청: {}", username);
+                    outcome = "disabled";
+                } else {
+                    // 5. Authentication 객체 생성
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                // 5. Authentication 객체 생성
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    // 6. SecurityContext에 Authentication 객체 설정
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                // 6. SecurityContext에 Authentication 객체 설정
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                
-                log.debug("JWT 인증 성공: {}", username);
+                    outcome = "success";
+                    log.debug("JWT 인증 성공: {}", username);
+                }
             }
         } catch (Exception ex) {
+            outcome = "error";
             log.error("JWT 인증 중 오류 발생", ex);
+        } finally {
+            sample.stop(Timer.builder("auth.jwt")
+                    .description("JWT 검증 + UserDetails 조회 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
 
         filterChain.doFilter(request, response);
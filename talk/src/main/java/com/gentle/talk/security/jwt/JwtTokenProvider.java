@@ -1,9 +1,12 @@
 package com.gentle.talk.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -29,10 +32,22 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
-    // Secret Key 생성
-    private SecretKey getSigningKey() {
+    // 서명 키 / 파서 (기동 시 1회 생성, 스레드 안전)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    // Secret Key
+    private SecretKey getSigningKey() {
+        return signingKey;
     }
 
     // JWT 토큰에서 사용자명 추출
@@ -51,33 +66,58 @@ public class JwtTokenProvider {
         return claimsResolver.apply(claims);
     }
 
-    // JWT 토큰에서 모든 Claim 추출
+    // JWT 토큰에서 모든 Claim 추출 (서명 + 만료 검증 포함)
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    // JWT 토큰 만료 여부 확인
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    /**
+     * JWT 토큰 검증 + Claim 추출 (파싱/서명 검증 1회)
+     * ✅ 서명이 올바르고 만료되지 않았으면 검증된 Claims
+     * ⚠ 유효하지 않으면 null
+     */
+    public Claims parseValidClaims(String token) {
+        try {
+            return getAllClaimsFromToken(token);
+        } catch (ExpiredJwtException e) {
+            log.debug("JWT 토큰 만료: {}", e.getMessage());
+            return null;
+        } catch (Exception e) {
+            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
+            return null;
+        }
     }
 
-    // Access Token 생성
-    public String generateAccessToken(UserDetails userDetails) {
+    // 토큰 구분 / 토큰 계열 Claim
+    public static final String CLAIM_TYPE = "typ";
+    public static final String CLAIM_FAMILY = "fam";
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    // Access Token 생성 (familyId : 발급 근거가 된 리프레시 토큰 계열 → 로그아웃/폐기 시 함께 거부)
+    public String generateAccessToken(UserDetails userDetails, String familyId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TYPE, TYPE_ACCESS);
+        claims.put(CLAIM_FAMILY, familyId);
         return createToken(claims, userDetails.getUsername(), expiration);
     }
 
-    // Refresh Token 생성
-    public String generateRefreshToken(UserDetails userDetails) {
+    // Refresh Token 생성 (tokenId : refresh_tokens.id 와 같은 jti)
+    public String generateRefreshToken(UserDetails userDetails, String familyId, String tokenId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TYPE, TYPE_REFRESH);
+        claims.put(CLAIM_FAMILY, familyId);
+        claims.put(Claims.ID, tokenId);
         return createToken(claims, userDetails.getUsername(), refreshExpiration);
     }
 
+    // Refresh Token 유효기간 (ms)
+    public Long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
     // JWT 토큰 생성
     private String createToken(Map<String, Object> claims, String subject, Long expirationTime) {
         Date now = new Date();
@@ -94,23 +134,12 @@ public class JwtTokenProvider {
 
     // JWT 토큰 유효성 검증
     public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = getUsernameFromToken(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (Exception e) {
-            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        Claims claims = parseValidClaims(token);
+        return claims != null && userDetails.getUsername().equals(claims.getSubject());
     }
 
     // JWT 토큰 검증 (UserDetails 없이)
     public Boolean validateToken(String token) {
-        try {
-            getAllClaimsFromToken(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        return parseValidClaims(token) != null;
     }
 }
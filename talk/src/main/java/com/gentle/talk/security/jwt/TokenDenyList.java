@@ -0,0 +1,182 @@
+package com.gentle.talk.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gentle.talk.mapper.users.RefreshTokenMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 폐기된 토큰 계열(family) 거부 목록
+ * - refresh_tokens.revoked_at 을 원본으로 하는 메모리 Bloom filter
+ * - JwtAuthenticationFilter 는 요청마다 mightContain 만 확인 (DB 조회 없음, O(1))
+ * - Bloom 양성(폐기 또는 오탐)일 때만 DB 로 확정하고 결과를 잠시 캐시
+ * ✅ sync    : 최근 폐기분을 주기적으로 추가 (다른 인스턴스의 폐기 반영)
+ * ✅ rebuild : 전체 재구성 (만료된 계열 제거 - Bloom 은 삭제가 불가능하므로)
+ * ⚠ 다른 인스턴스에서 폐기된 계열은 sync 주기만큼 늦게 반영될 수 있음
+ */
+@Slf4j
+@Component
+public class TokenDenyList {
+
+    private final RefreshTokenMapper mapper;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long syncOverlapMs;
+
+    // 양성 판정 확정 결과 (familyId → 폐기 여부)
+    private final Cache<String, Boolean> confirmed;
+
+    private volatile BloomFilter bloom;
+    private volatile Date lastSyncAt;
+
+    public TokenDenyList(RefreshTokenMapper mapper,
+                         @Value("${security.deny-list.expected-insertions:100000}") int expectedInsertions,
+                         @Value("${security.deny-list.false-positive-rate:0.001}") double falsePositiveRate,
+                         @Value("${security.deny-list.sync-interval-ms:10000}") long syncIntervalMs) {
+        this.mapper = mapper;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlapMs = syncIntervalMs * 2;
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .build();
+        this.bloom = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("토큰 거부 목록 초기화 실패 - 다음 재구성 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 폐기 여부 확인
+     */
+    public boolean isRevoked(String familyId) {
+        if (familyId == null || !bloom.mightContain(familyId)) return false;
+        return confirmed.get(familyId, mapper::existsRevokedFamily);
+    }
+
+    /**
+     * 폐기 등록 (DB 반영 후 호출)
+     */
+    public void revoke(String familyId) {
+        if (familyId == null) return;
+        bloom.put(familyId);
+        confirmed.put(familyId, Boolean.TRUE);
+    }
+
+    /**
+     * 최근 폐기분 추가 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${security.deny-list.sync-interval-ms:10000}")
+    public void sync() {
+        Date since = lastSyncAt == null ? null : new Date(lastSyncAt.getTime() - syncOverlapMs);
+        Date now = new Date();
+        List<String> families = mapper.selectRevokedFamilies(since);
+        BloomFilter current = bloom;
+        families.forEach(current::put);
+        confirmed.invalidateAll(families);
+        lastSyncAt = now;
+        if (!families.isEmpty()) {
+            log.debug("토큰 거부 목록 동기화 - 추가 {}건", families.size());
+        }
+    }
+
+    /**
+     * 전체 재구성 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${security.deny-list.rebuild-interval-ms:3600000}",
+               initialDelayString = "${security.deny-list.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        Date now = new Date();
+        List<String> families = mapper.selectRevokedFamilies(null);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, families.size() * 2), falsePositiveRate);
+        families.forEach(rebuilt::put);
+        bloom = rebuilt;
+        confirmed.invalidateAll();
+        lastSyncAt = now;
+        log.info("## 토큰 거부 목록 재구성 ## families={}, bits={}", families.size(), rebuilt.bitSize());
+    }
+
+    /**
+     * Bloom filter (double hashing, lock-free)
+     * - 비트 수 m = -n·ln(p) / (ln2)², 해시 수 k = m/n·ln2
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (bitSize / 64));
+        }
+
+        void put(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long prev;
+                do {
+                    prev = bits.get(word);
+                    if ((prev & mask) != 0) break;
+                } while (!bits.compareAndSet(word, prev, prev | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+            }
+            return true;
+        }
+
+        long bitSize() {
+            return bitSize;
+        }
+
+        // FNV-1a 64bit + murmur3 finalizer
+        private static long hash64(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= (b & 0xff);
+                h *= 0x100000001b3L;
+            }
+            h ^= (h >>> 33);
+            h *= 0xff51afd7ed558ccdL;
+            h ^= (h >>> 33);
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= (h >>> 33);
+            return h;
+        }
+    }
+
+}
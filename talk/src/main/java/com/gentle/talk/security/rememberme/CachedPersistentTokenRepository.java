@@ -0,0 +1,174 @@
+package com.gentle.talk.security.rememberme;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 자동 로그인(remember-me) 토큰 저장소 - 메모리 캐시 + 지연 쓰기
+ * - 원본은 persistent_logins (JdbcTokenRepositoryImpl), 테이블은 Flyway 마이그레이션으로 관리
+ * ✅ getTokenForSeries : 캐시 → 없으면 DB 조회 후 캐시
+ * ✅ createNewToken / removeUserTokens : 즉시 DB 반영 (로그인/로그아웃)
+ * ✅ updateToken : 자동 로그인마다 발생 → 캐시만 갱신하고 주기적으로 모아서 DB 반영 (write-behind)
+ * ⭐ 캐시 유효기간(ttl-seconds)은 DB 에서 읽은 시점부터 계산, 자동 로그인(갱신)으로 연장되지 않음
+ * ⚠ 반영 전 다른 인스턴스가 DB 의 이전 토큰을 읽으면 쿠키 탈취로 판단될 수 있음
+ *   → 여러 인스턴스로 운영할 때는 flush-interval-ms 를 짧게 두거나 sticky session 사용
+ * ⚠ 다른 인스턴스에서 로그아웃 / 탈취로 폐기된 series 는 이 인스턴스 캐시에서 최대 ttl-seconds 동안 계속 인증됨
+ *   (로그아웃한 인스턴스에서는 즉시 무효)
+ */
+@Slf4j
+@Component
+public class CachedPersistentTokenRepository implements PersistentTokenRepository {
+
+    private static final String UPDATE_TOKEN_SQL =
+            "update persistent_logins set token = ?, last_used = ? where series = ?";
+
+    private final JdbcTokenRepositoryImpl delegate;
+    private final JdbcTemplate jdbcTemplate;
+
+    // series → 토큰 (DB 에서 읽은 뒤 ttl 이 지나면 다시 DB 조회)
+    private final Cache<String, PersistentRememberMeToken> cache;
+
+    // DB 반영 대기 중인 갱신 (series → 최신 토큰)
+    private final Map<String, PersistentRememberMeToken> dirty = new ConcurrentHashMap<>();
+
+    public CachedPersistentTokenRepository(DataSource dataSource, MeterRegistry meterRegistry,
+                                           @Value("${security.remember-me.cache.maximum-size:10000}") long maximumSize,
+                                           @Value("${security.remember-me.cache.ttl-seconds:60}") long ttlSeconds) {
+        this(dataSource, meterRegistry, maximumSize, ttlSeconds, Ticker.systemTicker());
+    }
+
+    CachedPersistentTokenRepository(DataSource dataSource, MeterRegistry meterRegistry,
+                                    long maximumSize, long ttlSeconds, Ticker ticker) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.delegate = new JdbcTokenRepositoryImpl();
+        this.delegate.setJdbcTemplate(jdbcTemplate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(expireAfterLoad(Duration.ofSeconds(ttlSeconds)))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.remember-me");
+    }
+
+    /**
+     * 만료 시점 = 처음 캐시에 들어간 시점 + ttl
+     * - expireAfterWrite 는 updateToken 의 put 마다 연장되므로, 갱신은 남은 시간을 그대로 유지
+     * - 조회로도 연장하지 않음 (다른 인스턴스의 로그아웃/폐기가 ttl 안에 반영되도록)
+     */
+    private static Expiry<String, PersistentRememberMeToken> expireAfterLoad(Duration ttl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String series, PersistentRememberMeToken token, long currentTime) {
+                return ttl.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String series, PersistentRememberMeToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String series, PersistentRememberMeToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        delegate.createNewToken(token);
+        cache.put(token.getSeries(), token);
+    }
+
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        PersistentRememberMeToken current = getTokenForSeries(series);
+        if (current == null) return;
+
+        PersistentRememberMeToken updated =
+                new PersistentRememberMeToken(current.getUsername(), series, tokenValue, lastUsed);
+        cache.put(series, updated);
+        dirty.put(series, updated);
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        PersistentRememberMeToken pending = dirty.get(seriesId);
+        if (pending != null) return pending;
+
+        PersistentRememberMeToken cached = cache.getIfPresent(seriesId);
+        if (cached != null) return cached;
+
+        PersistentRememberMeToken loaded = delegate.getTokenForSeries(seriesId);
+        if (loaded != null) cache.put(seriesId, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void removeUserTokens(String username) {
+        // DB 먼저 삭제 → 이후 캐시 미스가 삭제된 토큰을 다시 읽지 않도록
+        delegate.removeUserTokens(username);
+        cache.asMap().values().removeIf(token -> Objects.equals(token.getUsername(), username));
+        dirty.values().removeIf(token -> Objects.equals(token.getUsername(), username));
+    }
+
+    /**
+     * 지연된 토큰 갱신 DB 반영 (주기 실행)
+     * - 반영에 성공한 뒤에만 대기 목록에서 제거 → 실패하면 그대로 남아 다음 주기에 재시도
+     * - 그 사이 로그아웃(removeUserTokens)으로 대기 목록에서 빠진 series 는 다시 넣지 않음
+     */
+    @Scheduled(fixedDelayString = "${security.remember-me.flush-interval-ms:5000}")
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        List<PersistentRememberMeToken> tokens = new ArrayList<>(dirty.values());
+        if (tokens.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_TOKEN_SQL, tokens, tokens.size(), (ps, token) -> {
+                ps.setString(1, token.getTokenValue());
+                ps.setTimestamp(2, new Timestamp(token.getDate().getTime()));
+                ps.setString(3, token.getSeries());
+            });
+            // 반영하는 사이 더 최신 값으로 바뀌었으면 남겨 두고 다음 주기에 반영
+            tokens.forEach(token -> dirty.remove(token.getSeries(), token));
+            log.debug("자동 로그인 토큰 일괄 반영 - {}건", tokens.size());
+        } catch (Exception e) {
+            log.error("자동 로그인 토큰 일괄 반영 중 오류 발생 - 다음 주기에 재시도 tokens={}", tokens.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("## 종료 전 자동 로그인 토큰 반영 ##");
+        flush();
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.gentle.talk.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -10,12 +12,17 @@ import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.github.pagehelper.PageHelper;
 import com.github.pagehelper.PageInfo;
 import com.gentle.talk.domain.Base;
+import com.gentle.talk.domain.common.CursorPage;
+import com.gentle.talk.domain.common.QueryParams;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class BaseServiceImpl<E extends Base, M extends BaseMapper<E>> extends ServiceImpl<M, E> implements BaseService<E> {
 
+  // 커서 페이징 최대 조회 건수
+  protected static final int MAX_CURSOR_SIZE = 100;
+
   @Autowired M mapper;
 
   @Override
@@ -60,6 +67,44 @@ public class BaseServiceImpl<E extends Base, M extends BaseMapper<E>> extends Se
     return new PageInfo<>(list);
   }
 
+  /**
+   * 커서(keyset) 페이징
+   * - (created_at, no) 보다 뒤의 데이터를 size + 1 건 조회해 다음 페이지 여부 판단 → OFFSET / COUNT 없이 일정한 비용
+   * - withCount=true 이면 전체 수 COUNT 1회 추가
+   * - size 는 1 ~ MAX_CURSOR_SIZE 로 제한
+   * @param query  QueryParams 의 keyset (커서 조건 + 조회 건수) 을 반영하는 목록 조회
+   */
+  protected CursorPage<E> keysetPage(QueryParams queryParams, Function<QueryParams, List<E>> query) {
+    queryParams.clearKeyset();
+    int size = Math.min(Math.max(queryParams.getSize() == null ? 10 : queryParams.getSize(), 1), MAX_CURSOR_SIZE);
+    queryParams.setSize(size);
+
+    Long total = null;
+    if (Boolean.TRUE.equals(queryParams.getWithCount())) {
+      total = PageHelper.count(() -> query.apply(queryParams));
+    }
+
+    CursorPage.applyCursor(queryParams, size + 1);
+    List<E> rows = query.apply(queryParams);
+
+    boolean hasNext = rows.size() > size;
+    List<E> list = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+    String nextCursor = null;
+    if (hasNext) {
+      E last = list.get(list.size() - 1);
+      nextCursor = CursorPage.encodeCursor(last.getCreatedAt(), last.getNo());
+    }
+    return new CursorPage<>(list, list.size(), hasNext, nextCursor, total);
+  }
+
+  /**
+   * OFFSET 페이징 시작 (withCount=false 이면 COUNT 쿼리 생략)
+   */
+  protected void startOffsetPage(QueryParams queryParams) {
+    queryParams.clearKeyset();
+    PageHelper.startPage(queryParams.getPage(), queryParams.getSize(), !Boolean.FALSE.equals(queryParams.getWithCount()));
+  }
+
   @Override
   public E select(Long no) {
     return mapper.selectById(no);
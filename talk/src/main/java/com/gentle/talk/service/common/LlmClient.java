@@ -0,0 +1,157 @@
+package com.gentle.talk.service.common;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gentle.talk.domain.llm.ChatCompletionChunk;
+import com.gentle.talk.domain.llm.ChatCompletionRequest;
+import com.gentle.talk.domain.llm.ChatCompletionResponse;
+import com.gentle.talk.domain.llm.ChatMessage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * LLM(OpenAI) 공용 클라이언트
+ * ✅ 공유 WebClient(커넥션 풀) 사용
+ * ✅ 요청/응답 DTO 로 직렬화 (Map 역직렬화 제거)
+ * ✅ 호출마다 Micrometer 타이머 기록 (llm.call)
+ * ✅ 토큰 스트리밍 (stream: true) 지원
+ */
+@Slf4j
+@Component
+public class LlmClient {
+
+    private static final String SYSTEM_PROMPT = "You are a helpful Korean counselor.";
+    private static final String STREAM_DONE = "[DONE]";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${openai.model:gpt-4o-mini}")
+    private String model;
+
+    @Value("${openai.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    public LlmClient(@Qualifier("llmWebClient") WebClient webClient, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 프롬프트 호출 (비동기)
+     * @param prompt 사용자 프롬프트
+     * @return 생성된 content
+     */
+    public Mono<String> chatAsync(String prompt) {
+        ChatCompletionRequest requestBody = buildRequest(prompt, null);
+
+        log.info("### OpenAI 요청 - model={}, promptLength={}", model, prompt.length());
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return webClient.post()
+                    .uri("/chat/completions")
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(ChatCompletionResponse.class)
+                    .switchIfEmpty(Mono.error(new IllegalStateException("OpenAI 응답이 비어있습니다.")))
+                    .map(response -> {
+                        if (response.getUsage() != null) {
+                            log.info("### OpenAI 토큰 사용량 - prompt={}, completion={}",
+                                    response.getUsage().getPromptTokens(), response.getUsage().getCompletionTokens());
+                        }
+                        String content = response.firstContent();
+                        log.info("### OpenAI content: {}", content);
+                        return content;
+                    })
+                    .doOnSuccess(content -> sample.stop(timer("success")))
+                    .doOnError(e -> sample.stop(timer("error")))
+                    .doOnCancel(() -> sample.stop(timer("cancelled")));
+        });
+    }
+
+    /**
+     * 프롬프트 호출 (토큰 스트리밍, stream: true)
+     * @param prompt 사용자 프롬프트
+     * @return 생성되는 content 조각들
+     */
+    public Flux<String> chatStream(String prompt) {
+        ChatCompletionRequest requestBody = buildRequest(prompt, true);
+
+        log.info("### OpenAI 스트리밍 요청 - model={}, promptLength={}", model, prompt.length());
+
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return webClient.post()
+                    .uri("/chat/completions")
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToFlux(SSE_TYPE)
+                    .mapNotNull(ServerSentEvent::data)
+                    .takeWhile(data -> !STREAM_DONE.equals(data))
+                    .map(this::parseChunk)
+                    .filter(delta -> !delta.isEmpty())
+                    .doOnComplete(() -> sample.stop(timer("success", true)))
+                    .doOnError(e -> sample.stop(timer("error", true)))
+                    .doOnCancel(() -> sample.stop(timer("cancelled", true)));
+        });
+    }
+
+    /**
+     * 프롬프트 호출 (동기)
+     * - 기존 서비스 코드(블로킹 흐름)에서 사용
+     */
+    public String chat(String prompt) {
+        return chatAsync(prompt).block(Duration.ofMillis(readTimeoutMs));
+    }
+
+    private ChatCompletionRequest buildRequest(String prompt, Boolean stream) {
+        return ChatCompletionRequest.builder()
+                .model(model)
+                .messages(List.of(ChatMessage.system(SYSTEM_PROMPT), ChatMessage.user(prompt)))
+                .temperature(0.3)
+                .stream(stream)
+                .build();
+    }
+
+    private String parseChunk(String data) {
+        try {
+            return objectMapper.readValue(data, ChatCompletionChunk.class).firstDelta();
+        } catch (Exception e) {
+            throw new IllegalStateException("OpenAI 스트리밍 응답을 해석할 수 없습니다: " + data, e);
+        }
+    }
+
+    private Timer timer(String outcome) {
+        return timer(outcome, false);
+    }
+
+    private Timer timer(String outcome, boolean stream) {
+        return Timer.builder("llm.call")
+                .description("OpenAI Chat Completions 호출 시간")
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .tag("stream", String.valueOf(stream))
+                .register(meterRegistry);
+    }
+
+}
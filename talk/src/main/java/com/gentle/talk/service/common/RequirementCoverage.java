@@ -0,0 +1,95 @@
+package com.gentle.talk.service.common;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 🍃 협상 메시지 초안의 요구 조건 반영 여부 검사 (병렬 분석 모드)
+ * - 분석 결과의 "💬 요구 조건" 불릿을 추출
+ * - 불릿마다 문자 2-gram 중 초안에 들어 있는 비율이 COVERED_RATIO 이상이면 반영된 것으로 봄
+ *   (형태소 분석 없이 조사/어미 차이를 흡수)
+ */
+@Component
+public class RequirementCoverage {
+
+    public static final double COVERED_RATIO = 0.5;
+
+    private static final String REQUIREMENTS_HEADER = "💬";
+    private static final String[] OTHER_HEADERS = {"⚖️", "📚"};
+
+    /**
+     * 분석 결과의 요구 조건 불릿 목록 (섹션이 없으면 빈 목록)
+     */
+    public List<String> requirements(String analysisResult) {
+        List<String> requirements = new ArrayList<>();
+        if (analysisResult == null) return requirements;
+
+        boolean inSection = false;
+        for (String line : analysisResult.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith(REQUIREMENTS_HEADER)) {
+                inSection = true;
+            } else if (isOtherHeader(trimmed)) {
+                inSection = false;
+            } else if (inSection && trimmed.startsWith("-")) {
+                String requirement = trimmed.substring(1).trim();
+                if (!requirement.isEmpty()) requirements.add(requirement);
+            }
+        }
+        return requirements;
+    }
+
+    /**
+     * 초안에 반영되지 않은 요구 조건 목록
+     */
+    public List<String> missing(String analysisResult, String draft) {
+        Set<String> draftGrams = bigrams(draft);
+        List<String> missing = new ArrayList<>();
+        for (String requirement : requirements(analysisResult)) {
+            if (coverage(requirement, draftGrams) < COVERED_RATIO) missing.add(requirement);
+        }
+        return missing;
+    }
+
+    /**
+     * 요구 조건의 2-gram 중 초안에 있는 비율 (0.0 ~ 1.0)
+     */
+    double coverage(String requirement, Set<String> draftGrams) {
+        Set<String> grams = bigrams(requirement);
+        if (grams.isEmpty()) return 1.0;
+
+        int found = 0;
+        for (String gram : grams) {
+            if (draftGrams.contains(gram)) found++;
+        }
+        return (double) found / grams.size();
+    }
+
+    private Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text == null) return grams;
+
+        // 한글/영문/숫자만 남김 (TextSimilarity.normalize 와 같은 기준)
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]", "");
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private boolean isOtherHeader(String line) {
+        for (String header : OTHER_HEADERS) {
+            if (line.startsWith(header)) return true;
+        }
+        return false;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.gentle.talk.service.common;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.util.MultiValueMap;
 
@@ -8,4 +9,7 @@ public interface SMSService {
 
     // 문자 보내기
     public Map<String, Object> send(MultiValueMap<String, String> param);
+
+    // 문자 보내기 (비동기 - smsExecutor 에서 실행)
+    public CompletableFuture<Map<String, Object>> sendAsync(MultiValueMap<String, String> param);
 }
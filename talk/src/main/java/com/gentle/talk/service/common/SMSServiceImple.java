@@ -1,26 +1,30 @@
 package com.gentle.talk.service.common;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.entity.mime.content.FileBody;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.MultiValueMap;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.annotation.PostConstruct;
@@ -36,6 +40,20 @@ public class SMSServiceImple implements SMSService {
     @Value("${aligo.sender:}") 
     String sender;
 
+    // 공유 커넥션 풀 (SmsConfig)
+    @Autowired
+    CloseableHttpClient smsHttpClient;
+
+    // 공유 ObjectMapper (스레드 안전)
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("smsExecutor")
+    ThreadPoolTaskExecutor smsExecutor;
+
+    private static final TypeReference<Map<String, Object>> RESULT_TYPE = new TypeReference<>() {};
+
     @PostConstruct
     public void init() {
         if (userId == null || userId.isEmpty()) {
@@ -99,24 +117,14 @@ public class SMSServiceImple implements SMSService {
 
             HttpEntity entity = builder.build();
 
-            HttpClient client = HttpClients.createDefault();
             HttpPost post = new HttpPost(sms_url);      // POST 방식의 요청 객체
             post.setEntity(entity);
 
-            HttpResponse res = client.execute(post);    // 요청 보냄 (request)
-                                                        // HttpResponse 응답 객체
-            StringBuilder result = new StringBuilder();
-            if (res != null) {
-                BufferedReader in = new BufferedReader(new InputStreamReader(res.getEntity().getContent(), encodingType));
-                String buffer;
-                while ((buffer = in.readLine()) != null) {
-                    result.append(buffer);
-                }
-                in.close();
+            // 요청 보냄 (request) - 응답을 끝까지 읽고 닫아야 커넥션이 풀로 반환됨
+            try (CloseableHttpResponse res = smsHttpClient.execute(post)) {
+                String result = EntityUtils.toString(res.getEntity(), StandardCharsets.UTF_8);
+                return objectMapper.readValue(result, RESULT_TYPE);
             }
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Object> resultMap = objectMapper.readValue(result.toString(), Map.class);
-            return resultMap;
             /*
              * {"result_code":"1","message":"success","msg_id":"678458794","success_cnt":1,"error_cnt":0,"msg_type":"SMS"}
              * ➡ Map<String, Object> 으로 반환
@@ -128,4 +136,17 @@ public class SMSServiceImple implements SMSService {
             return resultMap;
         }
     }
+
+    /**
+     * 문자 보내기 (비동기)
+     * ⚠ smsExecutor 큐가 가득 차면 TaskRejectedException 으로 완료된 future 반환
+     */
+    @Override
+    public CompletableFuture<Map<String, Object>> sendAsync(MultiValueMap<String, String> param) {
+        try {
+            return CompletableFuture.supplyAsync(() -> send(param), smsExecutor);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.gentle.talk.service.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 🍃 검색 결과 강조 스니펫 생성
+ * - 검색어(공백 구분)가 처음 등장하는 필드에서 앞뒤 일부만 잘라 <em>...</em> 으로 감쌈
+ * - 원문은 HTML 이스케이프 처리
+ */
+@Component
+public class SearchHighlighter {
+
+    public static final int CONTEXT_CHARS = 40;
+
+    /**
+     * 첫 번째로 검색어가 포함된 필드의 스니펫 (없으면 null)
+     */
+    public String snippet(String search, String... fields) {
+        List<String> terms = terms(search);
+        if (terms.isEmpty()) return null;
+
+        for (String field : fields) {
+            if (field == null || field.isEmpty()) continue;
+
+            String lower = field.toLowerCase(Locale.ROOT);
+            int first = -1;
+            for (String term : terms) {
+                int idx = lower.indexOf(term);
+                if (idx >= 0 && (first < 0 || idx < first)) first = idx;
+            }
+            if (first < 0) continue;
+
+            int start = Math.max(0, first - CONTEXT_CHARS);
+            int end = Math.min(field.length(), first + CONTEXT_CHARS * 2);
+            String snippet = highlight(field.substring(start, end), terms);
+
+            return (start > 0 ? "…" : "") + snippet + (end < field.length() ? "…" : "");
+        }
+        return null;
+    }
+
+    private String highlight(String text, List<String> terms) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder();
+        int pos = 0;
+
+        while (pos < text.length()) {
+            int matchAt = -1;
+            int matchLen = 0;
+            for (String term : terms) {
+                int idx = lower.indexOf(term, pos);
+                if (idx >= 0 && (matchAt < 0 || idx < matchAt || (idx == matchAt && term.length() > matchLen))) {
+                    matchAt = idx;
+                    matchLen = term.length();
+                }
+            }
+            if (matchAt < 0) {
+                sb.append(HtmlUtils.htmlEscape(text.substring(pos)));
+                break;
+            }
+            sb.append(HtmlUtils.htmlEscape(text.substring(pos, matchAt)))
+              .append("<em>")
+              .append(HtmlUtils.htmlEscape(text.substring(matchAt, matchAt + matchLen)))
+              .append("</em>");
+            pos = matchAt + matchLen;
+        }
+        return sb.toString();
+    }
+
+    private List<String> terms(String search) {
+        List<String> terms = new ArrayList<>();
+        if (search == null) return terms;
+        for (String term : search.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!term.isEmpty()) terms.add(term);
+        }
+        return terms;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.gentle.talk.service.common;
+
+import com.gentle.talk.domain.common.SystemStatistics;
+
+public interface StatisticsService {
+
+    // 현재 통계 (메모리 카운터 - DB 조회 없음)
+    SystemStatistics snapshot();
+
+    // DB 집계로 카운터 재계산
+    void reconcile();
+
+    // 이전 상태를 알 수 없는 변경 (허용된 이전 상태가 여러 개인 전이) → 짧은 주기로 재계산 요청
+    void requestReconcile();
+
+    // ⚠ 아래 카운터 증감은 트랜잭션 중이면 커밋 후 반영 (롤백 시 반영 안 됨)
+
+    // 회원 카운터
+    void userCreated(Boolean enabled);
+    void userDeleted(Boolean enabled);
+    void userEnabledChanged(Boolean before, Boolean after);
+
+    // 이슈 카운터
+    void issueCreated(String status);
+    void issueDeleted(String status);
+    void issueStatusChanged(String before, String after);
+
+    // 협상 카운터
+    void negotiationCreated(String status);
+    void negotiationStatusChanged(String before, String after);
+
+}
@@ -0,0 +1,225 @@
+package com.gentle.talk.service.common;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gentle.talk.domain.common.StatusCount;
+import com.gentle.talk.domain.common.SystemStatistics;
+import com.gentle.talk.mapper.core.IssueMapper;
+import com.gentle.talk.mapper.core.NegotiationMapper;
+import com.gentle.talk.mapper.users.UserMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 시스템 통계
+ * - 회원(활성/비활성), 이슈/협상(상태별) 수를 메모리 카운터로 유지 → 관리자 통계 조회는 DB 조회 없이 O(1)
+ * - 쓰기 경로(가입/삭제/상태 변경)에서 카운터를 증감 (트랜잭션 중이면 커밋 후, 롤백되면 반영하지 않음)
+ * - 주기적으로 GROUP BY 집계로 재계산 (롤백, 카운터를 거치지 않는 변경 등으로 생긴 오차 보정)
+ * - 이전 상태를 알 수 없는 상태 변경은 requestReconcile → 짧은 주기(requested-reconcile-interval-ms)로 한 번만 재계산
+ * - AI 호출 수는 Micrometer llm.call 타이머에서 읽음
+ */
+@Slf4j
+@Service
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private static final String ENABLED = "enabled";
+    private static final String DISABLED = "disabled";
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private NegotiationMapper negotiationMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, LongAdder> users = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> issues = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> negotiations = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime reconciledAt;
+
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+
+    @Override
+    public SystemStatistics snapshot() {
+        long activeUsers = value(users, ENABLED);
+        long inactiveUsers = value(users, DISABLED);
+        Map<String, Long> issuesByStatus = toMap(issues);
+        Map<String, Long> negotiationsByStatus = toMap(negotiations);
+
+        return new SystemStatistics(
+                activeUsers + inactiveUsers,
+                activeUsers,
+                inactiveUsers,
+                issuesByStatus.values().stream().mapToLong(Long::longValue).sum(),
+                issuesByStatus,
+                negotiationsByStatus.values().stream().mapToLong(Long::longValue).sum(),
+                negotiationsByStatus,
+                llmCalls(),
+                reconciledAt != null ? reconciledAt.toString() : null,
+                LocalDateTime.now().toString());
+    }
+
+    /**
+     * DB 집계로 카운터 재계산 (기동 직후 + 주기 실행)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${statistics.reconcile-interval-ms:60000}")
+    @Override
+    public void reconcile() {
+        try {
+            reset(users, userMapper.countGroupByEnabled());
+            reset(issues, issueMapper.countGroupByStatus());
+            reset(negotiations, negotiationMapper.countGroupByStatus());
+            reconciledAt = LocalDateTime.now();
+            log.debug("## 통계 카운터 재계산 ## users={}, issues={}, negotiations={}", toMap(users), toMap(issues), toMap(negotiations));
+        } catch (Exception e) {
+            log.error("통계 카운터 재계산 중 오류 발생", e);
+        }
+    }
+
+    @Override
+    public void requestReconcile() {
+        afterCommit(() -> reconcileRequested.set(true));
+    }
+
+    /**
+     * 요청된 재계산 실행 (여러 건이 쌓여도 주기당 한 번)
+     */
+    @Scheduled(fixedDelayString = "${statistics.requested-reconcile-interval-ms:5000}")
+    public void reconcileIfRequested() {
+        if (reconcileRequested.getAndSet(false)) {
+            reconcile();
+        }
+    }
+
+    @Override
+    public void userCreated(Boolean enabled) {
+        afterCommit(() -> add(users, userKey(enabled), 1));
+    }
+
+    @Override
+    public void userDeleted(Boolean enabled) {
+        afterCommit(() -> add(users, userKey(enabled), -1));
+    }
+
+    @Override
+    public void userEnabledChanged(Boolean before, Boolean after) {
+        afterCommit(() -> move(users, userKey(before), userKey(after)));
+    }
+
+    @Override
+    public void issueCreated(String status) {
+        afterCommit(() -> add(issues, status, 1));
+    }
+
+    @Override
+    public void issueDeleted(String status) {
+        afterCommit(() -> add(issues, status, -1));
+    }
+
+    @Override
+    public void issueStatusChanged(String before, String after) {
+        afterCommit(() -> move(issues, before, after));
+    }
+
+    @Override
+    public void negotiationCreated(String status) {
+        afterCommit(() -> add(negotiations, status, 1));
+    }
+
+    @Override
+    public void negotiationStatusChanged(String before, String after) {
+        afterCommit(() -> move(negotiations, before, after));
+    }
+
+    /**
+     * 카운터 반영 시점
+     * - 트랜잭션 중이면 커밋 후 (롤백된 변경은 반영하지 않고, 트랜잭션 안에서 카운터를 건드리지 않음)
+     * - 트랜잭션 밖이면 즉시
+     */
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    // enabled 가 null 이면 DB 기본값(1) 과 동일하게 활성으로 간주
+    private String userKey(Boolean enabled) {
+        return Boolean.FALSE.equals(enabled) ? DISABLED : ENABLED;
+    }
+
+    private void move(Map<String, LongAdder> counters, String before, String after) {
+        if (before != null && before.equals(after)) return;
+        add(counters, before, -1);
+        add(counters, after, 1);
+    }
+
+    private void add(Map<String, LongAdder> counters, String key, long delta) {
+        if (key == null) return;
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private void reset(Map<String, LongAdder> counters, List<StatusCount> counts) {
+        Map<String, Long> fresh = new HashMap<>();
+        for (StatusCount count : counts) {
+            if (count.getStatus() != null) fresh.put(count.getStatus(), count.getCount());
+        }
+        counters.keySet().removeIf(key -> !fresh.containsKey(key));
+        fresh.forEach((key, value) -> {
+            LongAdder adder = counters.computeIfAbsent(key, k -> new LongAdder());
+            adder.reset();
+            adder.add(value);
+        });
+    }
+
+    private long value(Map<String, LongAdder> counters, String key) {
+        LongAdder adder = counters.get(key);
+        return adder == null ? 0 : Math.max(0, adder.sum());
+    }
+
+    private Map<String, Long> toMap(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((key, adder) -> {
+            long value = adder.sum();
+            if (value > 0) result.put(key, value);
+        });
+        return result;
+    }
+
+    private Map<String, Long> llmCalls() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Timer timer : meterRegistry.find("llm.call").timers()) {
+            String outcome = timer.getId().getTag("outcome");
+            result.merge(outcome != null ? outcome : "unknown", timer.count(), Long::sum);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.gentle.talk.service.common;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 🍃 갈등상황 근사 중복 판별 유틸
+ * - 정규화: NFKC, 소문자, 공백/문장부호 제거
+ * - 문자 n-gram(shingle) 집합 → 64bit SimHash
+ * - SimHash 를 8bit 밴드 8개로 나눠 DB 후보 검색 (해밍거리 7 이하는 반드시 한 밴드가 일치)
+ *   ⚠ 갈등상황처럼 짧은 글은 Jaccard 0.8 근처에서도 10bit 안팎이 달라짐
+ *     → 16bit 밴드 4개(해밍거리 3 이하 보장)로는 임계값 근처 중복 대부분이 후보에서 빠짐
+ * - 최종 점수는 후보 원문과의 shingle Jaccard 유사도
+ */
+@Component
+public class TextSimilarity {
+
+    public static final int SHINGLE_SIZE = 3;
+    public static final int BAND_COUNT = 8;
+    public static final int BAND_BITS = 64 / BAND_COUNT;
+
+    /**
+     * 비교용 정규화 문자열
+     */
+    public String normalize(String text) {
+        if (text == null) return "";
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        // 한글/영문/숫자만 남김 (띄어쓰기, 문장부호 차이는 무시)
+        return normalized.replaceAll("[^\\p{L}\\p{N}]", "");
+    }
+
+    /**
+     * 문자 n-gram 집합
+     */
+    public Set<String> shingles(String text) {
+        String normalized = normalize(text);
+        Set<String> shingles = new HashSet<>();
+        if (normalized.isEmpty()) return shingles;
+
+        if (normalized.length() <= SHINGLE_SIZE) {
+            shingles.add(normalized);
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + SHINGLE_SIZE));
+        }
+        return shingles;
+    }
+
+    /**
+     * 64bit SimHash
+     */
+    public long simHash(String text) {
+        Set<String> shingles = shingles(text);
+        int[] weights = new int[64];
+
+        for (String shingle : shingles) {
+            long h = hash64(shingle);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((h >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long simHash = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) simHash |= (1L << bit);
+        }
+        return simHash;
+    }
+
+    /**
+     * SimHash 의 i 번째 8bit 밴드 값 (DB 생성 컬럼 simhash_b{i} 와 동일한 계산)
+     */
+    public int band(long simHash, int index) {
+        return (int) ((simHash >>> (BAND_BITS * index)) & ((1L << BAND_BITS) - 1));
+    }
+
+    /**
+     * shingle 집합 Jaccard 유사도 (0.0 ~ 1.0)
+     */
+    public double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() && b.isEmpty()) return 1.0;
+        if (a.isEmpty() || b.isEmpty()) return 0.0;
+
+        Set<String> small = a.size() <= b.size() ? a : b;
+        Set<String> large = small == a ? b : a;
+
+        int intersection = 0;
+        for (String s : small) {
+            if (large.contains(s)) intersection++;
+        }
+        int union = a.size() + b.size() - intersection;
+        return (double) intersection / union;
+    }
+
+    /**
+     * shingle 해시 (FNV-1a 64bit + murmur3 finalizer) - MessageDigest 보다 가볍고 비트 분포가 고름
+     */
+    private long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= (h >>> 33);
+        return h;
+    }
+}
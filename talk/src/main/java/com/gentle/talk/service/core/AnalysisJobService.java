@@ -0,0 +1,19 @@
+package com.gentle.talk.service.core;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gentle.talk.domain.core.AnalysisJob;
+import com.gentle.talk.service.BaseService;
+
+public interface AnalysisJobService extends BaseService<AnalysisJob> {
+
+    // 분석 작업 등록 (큐에 추가)
+    AnalysisJob enqueue(Long issueNo);
+
+    // 작업 ID로 조회
+    AnalysisJob selectByJobId(String id);
+
+    // 작업 상태 구독 (SSE)
+    SseEmitter subscribe(String id);
+
+}
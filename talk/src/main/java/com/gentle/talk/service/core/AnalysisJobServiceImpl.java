@@ -0,0 +1,277 @@
+package com.gentle.talk.service.core;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gentle.talk.domain.core.AnalysisJob;
+import com.gentle.talk.domain.core.Issue;
+import com.gentle.talk.mapper.core.AnalysisJobMapper;
+import com.gentle.talk.service.BaseServiceImpl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이슈 분석 비동기 작업
+ * ✅ 작업은 analysis_jobs 테이블에 저장 → 서버 재시작 후에도 복구
+ *    - 서버 시작 : 이 서버(worker_id)가 실행하던 분석중 작업을 모두 대기로 되돌린 뒤 대기 작업 재등록
+ *    - 주기 실행 : 다른 서버가 실행하던 오래된(stale-minutes) 분석중 작업을 되돌리고 대기 작업 재등록
+ * ✅ 크기 제한된 실행기(analysisJobExecutor)에서 analyzeIssue 실행
+ * ✅ 상태 변경(대기 → 분석중 → 분석완료/분석실패)을 SSE 로 전달
+ */
+@Slf4j
+@Service
+public class AnalysisJobServiceImpl extends BaseServiceImpl<AnalysisJob, AnalysisJobMapper> implements AnalysisJobService {
+
+    private static final String STATUS_WAITING = "대기";
+    private static final String STATUS_RUNNING = "분석중";
+    private static final String STATUS_DONE = "분석완료";
+    private static final String STATUS_FAILED = "분석실패";
+
+    @Autowired
+    AnalysisJobMapper mapper;
+
+    @Autowired
+    IssueService issueService;
+
+    @Autowired
+    @Qualifier("analysisJobExecutor")
+    ThreadPoolTaskExecutor executor;
+
+    @Value("${analysis.job.sse-timeout-ms:180000}")
+    private long sseTimeoutMs;
+
+    @Value("${analysis.job.stale-minutes:10}")
+    private int staleMinutes;
+
+    @Value("${analysis.job.recovery-batch-size:100}")
+    private int recoveryBatchSize;
+
+    // 실행 서버 ID (재시작해도 같아야 함 - 기본값 호스트 이름)
+    @Value("${analysis.job.worker-id:}")
+    private String workerId;
+
+    // 이 서버의 실행기에 등록된 작업 번호 (주기 복구 시 중복 등록 방지)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    // 작업 ID → 구독 중인 SSE 목록
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initWorkerId() {
+        if (workerId != null && !workerId.isBlank()) return;
+        try {
+            workerId = InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            workerId = UUID.randomUUID().toString();
+            log.warn("호스트 이름 조회 실패 - 임시 실행 서버 ID 사용 (재시작 후에는 주기 복구로만 되돌려짐) workerId={}", workerId);
+        }
+    }
+
+    @Override
+    public AnalysisJob enqueue(Long issueNo) {
+        log.info("## 분석 작업 등록 ##");
+        log.info("issueNo={}", issueNo);
+
+        Issue issue = issueService.selectByIssueNo(issueNo);
+        if (issue == null) {
+            throw new IllegalArgumentException("해당 ID의 이슈를 찾을 수 없습니다. issueNo=" + issueNo);
+        }
+
+        AnalysisJob job = new AnalysisJob();
+        job.setId(java.util.UUID.randomUUID().toString());
+        job.setIssueNo(issueNo);
+        job.setStatus(STATUS_WAITING);
+        job.setAttempts(0);
+        mapper.insert(job);
+
+        try {
+            submit(job);
+        } catch (TaskRejectedException e) {
+            log.warn("분석 작업 대기열 초과 - jobId={}", job.getId());
+            mapper.finish(job.getNo(), STATUS_FAILED, "분석 대기열이 가득 찼습니다.");
+            throw e;
+        }
+
+        log.info("분석 작업 등록 완료 - jobId={}", job.getId());
+        return job;
+    }
+
+    @Override
+    public AnalysisJob selectByJobId(String id) {
+        return mapper.selectByJobId(id);
+    }
+
+    @Override
+    public SseEmitter subscribe(String id) {
+        log.info("## 분석 작업 구독 ##");
+        log.info("jobId={}", id);
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        List<SseEmitter> list = emitters.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        emitter.onCompletion(() -> removeEmitter(id, emitter));
+        emitter.onTimeout(() -> removeEmitter(id, emitter));
+        emitter.onError(e -> removeEmitter(id, emitter));
+
+        // 등록 후 현재 상태 조회 - 그 사이 종료된 작업도 놓치지 않도록
+        AnalysisJob job = mapper.selectByJobId(id);
+        if (job == null) {
+            removeEmitter(id, emitter);
+            throw new IllegalArgumentException("해당 ID의 분석 작업을 찾을 수 없습니다. jobId=" + id);
+        }
+
+        send(emitter, job, job.getStatus());
+        if (isFinished(job.getStatus())) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 서버 시작 시 미완료 작업 복구
+     * - 이 서버가 실행하던 분석중 작업은 시작 시각과 관계없이 중단된 것이므로 모두 대기로 되돌림
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            int reset = mapper.resetOwned(workerId);
+            log.info("분석 작업 복구 - workerId={}, 중단된 작업: {}", workerId, reset);
+        } catch (Exception e) {
+            log.error("분석 작업 복구 중 오류 발생", e);
+        }
+        recoverStale();
+    }
+
+    /**
+     * 미완료 작업 주기 복구
+     * - 다른 서버가 실행하던 오래된 분석중 작업은 대기로 되돌림 (그 서버가 종료된 경우)
+     * - 대기 작업을 실행기에 등록 (이미 이 서버에 등록된 작업은 제외)
+     */
+    @Scheduled(fixedDelayString = "${analysis.job.recovery-interval-ms:60000}",
+               initialDelayString = "${analysis.job.recovery-interval-ms:60000}")
+    public void recoverStale() {
+        try {
+            int reset = mapper.resetStale(staleMinutes, workerId);
+            List<AnalysisJob> waiting = mapper.selectWaiting(recoveryBatchSize);
+
+            int submitted = 0;
+            for (AnalysisJob job : waiting) {
+                if (submit(job)) submitted++;
+            }
+            if (reset > 0 || submitted > 0) {
+                log.info("분석 작업 복구 - 재설정: {}, 재등록: {}", reset, submitted);
+            }
+        } catch (TaskRejectedException e) {
+            log.warn("분석 작업 복구 중 대기열 초과 - 나머지는 다음 주기에 복구");
+        } catch (Exception e) {
+            log.error("분석 작업 복구 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 실행기에 등록 (이미 등록된 작업이면 false)
+     */
+    private boolean submit(AnalysisJob job) {
+        if (!queued.add(job.getNo())) return false;
+        try {
+            executor.execute(() -> run(job));
+            return true;
+        } catch (TaskRejectedException e) {
+            queued.remove(job.getNo());
+            throw e;
+        }
+    }
+
+    private void run(AnalysisJob job) {
+        try {
+            execute(job);
+        } finally {
+            queued.remove(job.getNo());
+        }
+    }
+
+    private void execute(AnalysisJob job) {
+        // 작업 선점 - 이미 다른 워커가 가져간 작업이면 종료
+        if (mapper.claim(job.getNo(), workerId) == 0) {
+            log.info("이미 처리 중이거나 완료된 작업 - jobId={}", job.getId());
+            return;
+        }
+        publish(job, STATUS_RUNNING);
+
+        String status;
+        String errorMessage = null;
+        try {
+            Issue result = issueService.analyzeIssue(job.getIssueNo());
+            status = STATUS_DONE.equals(result.getStatus()) ? STATUS_DONE : STATUS_FAILED;
+            if (STATUS_FAILED.equals(status)) {
+                errorMessage = result.getAnalysisResult();
+            }
+        } catch (Exception e) {
+            log.error("분석 작업 실행 중 오류 발생 jobId={}", job.getId(), e);
+            status = STATUS_FAILED;
+            errorMessage = e.getMessage();
+        }
+
+        mapper.finish(job.getNo(), status, errorMessage);
+        log.info("분석 작업 종료 - jobId={}, status={}", job.getId(), status);
+        publish(job, status);
+    }
+
+    private void publish(AnalysisJob job, String status) {
+        List<SseEmitter> list = emitters.get(job.getId());
+        if (list == null) {
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            send(emitter, job, status);
+            if (isFinished(status)) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void send(SseEmitter emitter, AnalysisJob job, String status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("status")
+                    .data(Map.of(
+                            "jobId", job.getId(),
+                            "issueNo", job.getIssueNo(),
+                            "status", status
+                    )));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (연결 종료) jobId={}", job.getId());
+            removeEmitter(job.getId(), emitter);
+        }
+    }
+
+    private void removeEmitter(String id, SseEmitter emitter) {
+        emitters.computeIfPresent(id, (key, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private boolean isFinished(String status) {
+        return STATUS_DONE.equals(status) || STATUS_FAILED.equals(status);
+    }
+
+}
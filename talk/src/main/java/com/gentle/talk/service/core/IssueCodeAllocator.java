@@ -0,0 +1,149 @@
+package com.gentle.talk.service.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gentle.talk.domain.common.IdSequence;
+import com.gentle.talk.mapper.common.IdSequenceMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 이슈 코드 발급기
+ * - id_sequences('issue_code') 에서 서버별로 번호 블록을 임대 → 블록 안에서는 DB 조회 없이 메모리 발급
+ * - 번호 → 키 기반 순열(Feistel, HMAC-SHA256 라운드 함수) → 6자리 base-36 (0-9, A-Z)
+ * ✅ 순열은 [0, 36^6) 위의 일대일 대응 → 번호가 다르면 코드도 반드시 다름 (중복 확인 조회 불필요)
+ * ✅ 연속된 번호도 서로 무관해 보이는 코드로 바뀜 (키를 모르면 다음 코드를 추측하기 어려움)
+ * ⚠ issue.code.secret 을 바꾸면 이미 발급된 코드와 겹칠 수 있으므로 운영 중에는 변경 금지
+ *   - 다른 비밀값(jwt.secret 등)과 공유하지 않는 전용 값 (JWT 키 교체가 이슈 코드에 영향을 주지 않도록)
+ *   - 지정되지 않았거나 MIN_SECRET_LENGTH 보다 짧으면 서버 시작 실패
+ * ⚠ 서버 재시작 시 임대 후 쓰지 않은 번호는 버려짐 (번호 공간이 충분히 큼)
+ */
+@Slf4j
+@Component
+public class IssueCodeAllocator {
+
+    public static final String SEQUENCE_NAME = "issue_code";
+    public static final int CODE_LENGTH = 6;
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final long DOMAIN = pow(ALPHABET.length(), CODE_LENGTH);     // 36^6 = 2,176,782,336
+    private static final int HALF_BITS = 16;                                    // 32bit Feistel (2^32 > 36^6)
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final IdSequenceMapper mapper;
+    private final TransactionTemplate leaseTransaction;
+    private final SecretKeySpec key;
+    private final long blockSize;
+
+    // 현재 임대 블록 [next, end)
+    private long next;
+    private long end;
+
+    public IssueCodeAllocator(IdSequenceMapper mapper, PlatformTransactionManager transactionManager,
+                              @Value("${issue.code.secret}") String secret,
+                              @Value("${issue.code.block-size:100}") long blockSize) {
+        if (secret == null || secret.isBlank() || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("issue.code.secret 은 " + MIN_SECRET_LENGTH + "자 이상의 전용 비밀값이어야 합니다.");
+        }
+        this.mapper = mapper;
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.blockSize = blockSize;
+
+        // 호출 측 트랜잭션이 롤백돼도 임대는 유지되어야 함 (롤백되면 다른 서버와 블록이 겹침)
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 이슈 코드
+     */
+    public String next() {
+        return encode(permute(nextNumber()));
+    }
+
+    private synchronized long nextNumber() {
+        if (next >= end) {
+            lease();
+        }
+        return next++;
+    }
+
+    private void lease() {
+        IdSequence sequence = new IdSequence(SEQUENCE_NAME, blockSize, null);
+        Integer updated = leaseTransaction.execute(status -> mapper.lease(sequence));
+        if (updated == null || updated != 1 || sequence.getEnd() == null) {
+            throw new IllegalStateException("id_sequences 에 '" + SEQUENCE_NAME + "' 시퀀스가 없습니다.");
+        }
+        if (sequence.getEnd() > DOMAIN) {
+            throw new IllegalStateException("이슈 코드 번호 공간이 모두 소진되었습니다.");
+        }
+        this.end = sequence.getEnd();
+        this.next = end - blockSize;
+        log.info("## 이슈 코드 번호 블록 임대 ## [{}, {})", next, end);
+    }
+
+    /**
+     * [0, 36^6) 위의 키 기반 순열
+     * - 32bit Feistel 로 섞고, 결과가 범위를 벗어나면 다시 섞음 (cycle walking, 평균 2회 미만)
+     */
+    long permute(long value) {
+        long result = value;
+        do {
+            result = feistel(result);
+        } while (result >= DOMAIN);
+        return result;
+    }
+
+    private long feistel(long value) {
+        int left = (int) (value >>> HALF_BITS) & HALF_MASK;
+        int right = (int) value & HALF_MASK;
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            for (int round = 0; round < ROUNDS; round++) {
+                mac.update((byte) round);
+                mac.update((byte) (right >>> 8));
+                byte[] digest = mac.doFinal(new byte[] { (byte) right });
+                int f = ((digest[0] & 0xFF) << 8) | (digest[1] & 0xFF);
+                int newRight = left ^ f;
+                left = right;
+                right = newRight;
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("이슈 코드 생성 실패", e);
+        }
+        return ((long) left << HALF_BITS) | right;
+    }
+
+    /**
+     * 고정 길이 base-36 (앞자리 0 채움)
+     */
+    String encode(long value) {
+        char[] chars = new char[CODE_LENGTH];
+        long remaining = value;
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (remaining % ALPHABET.length()));
+            remaining /= ALPHABET.length();
+        }
+        return new String(chars);
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) result *= base;
+        return result;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.gentle.talk.service.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.pagehelper.PageHelper;
+import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.mapper.core.IssueMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 이슈 목록 전체 수(COUNT) 캐시
+ * - 키 : 정규화된 필터 (userNo, status, search)
+ * - 1 페이지 요청에서 정확한 COUNT 를 저장 → 2..N 페이지는 COUNT 생략하고 캐시값 사용
+ * - refresh-seconds 가 지나면 다음 조회 시 백그라운드에서 다시 COUNT, expire-seconds 가 지나면 제거
+ * - 무효화 : 등록/삭제/내용 수정 → 전체, 상태 변경 → 이전/이후 상태 키, 상대방 매칭 → 해당 회원 키
+ *   (즉시 한 번, 트랜잭션 중이면 커밋 후 한 번 더 - 커밋 전 다른 요청이 옛 COUNT 를 다시 캐싱하는 경우 방지)
+ */
+@Slf4j
+@Component
+public class IssueCountCache {
+
+    public record Key(Long userNo, String status, String search) {}
+
+    private final LoadingCache<Key, Long> cache;
+
+    public IssueCountCache(IssueMapper mapper, MeterRegistry meterRegistry,
+                           @Value("${issue.count-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${issue.count-cache.refresh-seconds:10}") long refreshSeconds,
+                           @Value("${issue.count-cache.expire-seconds:60}") long expireSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build(key -> {
+                    log.debug("이슈 COUNT 갱신 key={}", key);
+                    QueryParams queryParams = new QueryParams();
+                    queryParams.setUserNo(key.userNo());
+                    queryParams.setStatus(key.status());
+                    queryParams.setSearch(key.search());
+                    queryParams.setIncludeUsers(false);
+                    return PageHelper.count(() -> mapper.listWithParams(queryParams));
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "issue.count");
+    }
+
+    /**
+     * 필터 정규화 (빈 값 → null, 검색어 공백 정리 + 소문자)
+     */
+    public Key keyOf(QueryParams queryParams) {
+        String status = queryParams.getStatus();
+        String search = queryParams.getSearch();
+        return new Key(
+                queryParams.getUserNo(),
+                status == null || status.isBlank() ? null : status.trim(),
+                search == null || search.isBlank() ? null : search.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 캐시된 전체 수 (없으면 null, 오래된 값이면 백그라운드 갱신 시작)
+     */
+    public Long getIfPresent(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(Key key, long total) {
+        cache.put(key, total);
+    }
+
+    /**
+     * 전체 무효화 (이슈 등록/삭제, 상태/회원/검색 대상이 바뀔 수 있는 수정)
+     */
+    public void invalidateAll() {
+        evict(key -> true);
+    }
+
+    /**
+     * 상태 필터가 주어진 상태 중 하나인 키만 무효화 (상태 변경)
+     * - 상태 필터가 없는 키는 상태가 바뀌어도 전체 수가 같으므로 유지
+     */
+    public void invalidateStatuses(Collection<String> statuses) {
+        evict(key -> key.status() != null && statuses.contains(key.status()));
+    }
+
+    /**
+     * 회원 필터가 userNo 인 키만 무효화 (상대방 회원 매칭)
+     */
+    public void invalidateUser(Long userNo) {
+        evict(key -> Objects.equals(key.userNo(), userNo));
+    }
+
+    private void evict(Predicate<Key> filter) {
+        cache.asMap().keySet().removeIf(filter);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.asMap().keySet().removeIf(filter);
+                }
+            });
+        }
+    }
+
+}
@@ -1,13 +1,15 @@
 package com.gentle.talk.service.core;
 
 import com.github.pagehelper.PageInfo;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 import com.gentle.talk.domain.core.Issue;
-import com.gentle.talk.domain.users.Users;
 import com.gentle.talk.service.BaseService;
 
 import java.util.List;
 
+import reactor.core.publisher.Flux;
+
 public interface IssueService extends BaseService<Issue> {
 
     // 이슈 등록
@@ -25,6 +27,9 @@ public interface IssueService extends BaseService<Issue> {
     // 페이징 조회
     PageInfo<Issue> page(QueryParams queryParams);
 
+    // 커서(keyset) 페이징 조회
+    CursorPage<Issue> cursorPage(QueryParams queryParams);
+
     // 이슈 수정
     boolean update(Issue entity);
     
@@ -43,24 +48,33 @@ public interface IssueService extends BaseService<Issue> {
     // 중재안 선택
     boolean selectMediationProposal(Long issueNo, String selectedProposal);
     
-    // 상태 변경
+    // 상태 변경 (허용된 전이만, 변경 성공 여부 반환)
     boolean updateStatus(Long issueNo, String status);
 
+    // 상태 + flag 한 번에 변경 (허용된 전이만, 변경 성공 여부 반환)
+    boolean transitionStatus(Long issueNo, String status, String flag);
+
     // 이슈 번호로 조회
     Issue selectByIssueNo(Long issueNo);
  
     // 요약 분석 요청
     Issue analyzeIssue(Long issueNo);
 
+    // 협상 메시지 스트리밍 생성 (토큰 단위)
+    Flux<String> streamNegotiationMessage(Long issueNo);
+
     // 상대방 정보 등록
     boolean updateOpponent(Long issueNo, String name, String contact);
 
-    // 회원 가입 후 상대방 이슈 연결
-    void linkOpponentIssuesAfterSignup(Users user);
+    // 회원 가입 후 상대방 이슈 연결 (연결된 이슈 수)
+    int linkOpponentIssuesAfterSignup(Long userNo, String phone);
 
     // 내가 참여한 모든 이슈 (발신 + 수신)
     List<Issue> selectMyIssues(Long userNo);
 
+    // 내가 참여한 이슈 커서(keyset) 페이징 (발신 + 수신)
+    CursorPage<Issue> myIssuesCursorPage(QueryParams queryParams);
+
     // 상대방 의견 추가
     boolean updateOpponentRequirements(Long issueNo, String opponentRequirements);
 
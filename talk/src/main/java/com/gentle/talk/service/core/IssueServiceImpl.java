@@ -2,11 +2,16 @@ package com.gentle.talk.service.core;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.pagehelper.Page;
 import com.github.pagehelper.PageHelper;
 import com.github.pagehelper.PageInfo;
+import com.gentle.talk.domain.common.CountedPageInfo;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 import com.gentle.talk.domain.core.Issue;
 import com.gentle.talk.domain.users.Users;
@@ -14,26 +19,27 @@ import com.gentle.talk.mapper.core.IssueMapper;
 import com.gentle.talk.mapper.etc.MediationProposalLogMapper;
 import com.gentle.talk.mapper.users.UserMapper;
 import com.gentle.talk.service.BaseServiceImpl;
+import com.gentle.talk.service.common.LlmClient;
+import com.gentle.talk.service.common.RequirementCoverage;
+import com.gentle.talk.service.common.SearchHighlighter;
+import com.gentle.talk.service.common.StatisticsService;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
-
-import org.springframework.web.reactive.function.client.WebClient;
+import java.util.Set;
 
 
 @Slf4j
 @Service
 public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implements IssueService {
 
-    @Value("${openai.api-key:}")
-    private String apiKey;
-
-    @Value("${openai.model:gpt-4o-mini}")
-    private String model;
-
     @Autowired
     IssueMapper mapper;
 
@@ -43,6 +49,37 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
     @Autowired
     MediationProposalLogMapper mediationProposalLogMapper;
 
+    @Autowired
+    LlmClient llmClient;
+
+    @Autowired
+    SearchHighlighter searchHighlighter;
+
+    @Autowired
+    RequirementCoverage requirementCoverage;
+
+    @Autowired
+    IssueCountCache issueCountCache;
+
+    @Autowired
+    StatisticsService statisticsService;
+
+    @Autowired
+    IssueCodeAllocator issueCodeAllocator;
+
+    // 분석 실행 모드 (sequential: 분석 결과 기반 협상메시지 생성, parallel: 동시 생성 후 요구 조건 반영 검사)
+    @Value("${openai.analyze.mode:sequential}")
+    private String analyzeMode;
+
+    private static final String ANALYZE_MODE_PARALLEL = "parallel";
+
+    // 이 시간(분)보다 오래된 분석중 이슈는 분석 도중 중단된 것으로 보고 다시 분석 허용
+    @Value("${analysis.job.stale-minutes:10}")
+    private int staleAnalyzingMinutes;
+
+    // 발급한 이슈 코드가 기존(랜덤 발급 시절) 코드와 겹칠 때 재발급 횟수
+    private static final int ISSUE_CODE_MAX_ATTEMPTS = 3;
+
     @Transactional
     @Override
     public boolean register(Issue entity) {
@@ -56,7 +93,8 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
             }
             
             // 이슈 코드 생성
-            if (entity.getIssueCode() == null || entity.getIssueCode().isEmpty()) {
+            boolean generatedCode = entity.getIssueCode() == null || entity.getIssueCode().isEmpty();
+            if (generatedCode) {
                 entity.setIssueCode(generateUniqueIssueCode());
             }
             
@@ -65,8 +103,14 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
                 entity.setStatus("대기");
             }
             
-            int result = mapper.insert(entity);
+            int result = insertIssue(entity, generatedCode);
             log.info("이슈 등록 결과 - result: {}", result);
+
+            // 목록 전체 수 캐시 무효화 + 통계 카운터
+            if (result > 0) {
+                issueCountCache.invalidateAll();
+                statisticsService.issueCreated(entity.getStatus());
+            }
             
             return result > 0;
         } catch (Exception e) {
@@ -103,19 +147,64 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
     public PageInfo<Issue> page(QueryParams queryParams) {
         log.info("## 이슈 페이징 조회 ##");
         log.info("queryParams={}", queryParams);
+        queryParams.clearKeyset();
         
-        // PageHelper 설정
-        int page = queryParams.getPage();
-        int size = queryParams.getSize();
-        PageHelper.startPage(page, size);
-        
-        List<Issue> list = mapper.listWithParams(queryParams);
-        PageInfo<Issue> pageInfo = new PageInfo<>(list);
+        PageInfo<Issue> pageInfo;
+        List<Issue> list;
+
+        if (Boolean.FALSE.equals(queryParams.getWithCount())) {
+            // COUNT 생략
+            startOffsetPage(queryParams);
+            list = mapper.listWithParams(queryParams);
+            pageInfo = new PageInfo<>(list);
+        } else {
+            // 1 페이지 → 정확한 COUNT 후 캐시, 2..N 페이지 → 캐시된 COUNT 사용 (근사값)
+            IssueCountCache.Key countKey = issueCountCache.keyOf(queryParams);
+            Long cachedTotal = queryParams.getPage() > 1 ? issueCountCache.getIfPresent(countKey) : null;
+
+            if (cachedTotal != null) {
+                Page<Issue> page = PageHelper.startPage(queryParams.getPage(), queryParams.getSize(), false);
+                list = mapper.listWithParams(queryParams);
+                page.setTotal(cachedTotal);
+                pageInfo = new CountedPageInfo<>(list, true);
+            } else {
+                Page<Issue> page = PageHelper.startPage(queryParams.getPage(), queryParams.getSize(), true);
+                list = mapper.listWithParams(queryParams);
+                issueCountCache.put(countKey, page.getTotal());
+                pageInfo = new CountedPageInfo<>(list, false);
+            }
+        }
+
+        // 검색어 강조 스니펫
+        String search = queryParams.getSearch();
+        if (search != null && !search.isBlank()) {
+            for (Issue issue : list) {
+                issue.setHighlight(searchHighlighter.snippet(search,
+                        issue.getConflictSituation(), issue.getRequirements(), issue.getOpponentName()));
+            }
+        }
         
         log.info("pageInfo={}", pageInfo);
         return pageInfo;
     }
 
+    @Override
+    public CursorPage<Issue> cursorPage(QueryParams queryParams) {
+        log.info("## 이슈 커서 페이징 조회 ##");
+        log.info("queryParams={}", queryParams);
+
+        CursorPage<Issue> cursorPage = keysetPage(queryParams, mapper::listWithParams);
+
+        String search = queryParams.getSearch();
+        if (search != null && !search.isBlank()) {
+            for (Issue issue : cursorPage.getList()) {
+                issue.setHighlight(searchHighlighter.snippet(search,
+                        issue.getConflictSituation(), issue.getRequirements(), issue.getOpponentName()));
+            }
+        }
+        return cursorPage;
+    }
+
     @Transactional
     @Override
     public boolean update(Issue entity) {
@@ -125,6 +214,8 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         try {
             int result = mapper.updateById(entity);
             log.info("이슈 수정 결과 - result: {}", result);
+            // 상태/상대방/검색 대상 내용이 바뀔 수 있음
+            if (result > 0) issueCountCache.invalidateAll();
             
             return result > 0;
         } catch (Exception e) {
@@ -133,6 +224,28 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         }
     }
 
+    @Override
+    public boolean delete(Long no) {
+        Issue target = mapper.selectById(no);
+        boolean result = super.delete(no);
+        if (result) {
+            issueCountCache.invalidateAll();
+            if (target != null) statisticsService.issueDeleted(target.getStatus());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        Issue target = super.selectById(id);
+        boolean result = super.deleteById(id);
+        if (result) {
+            issueCountCache.invalidateAll();
+            if (target != null) statisticsService.issueDeleted(target.getStatus());
+        }
+        return result;
+    }
+
     @Override
     public int countByStatus(Long userNo, String status) {
         log.info("## 상태별 이슈 개수 조회 ##");
@@ -149,39 +262,32 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         return mapper.selectRecentIssues(userNo, limit);
     }
 
+    /**
+     * 이슈 코드 생성
+     * - 서버가 임대한 번호 블록에서 발급 (IssueCodeAllocator) → 중복 확인 조회 없음
+     */
     @Override
     public String generateUniqueIssueCode() {
-        log.info("## 이슈 코드 생성 ##");
-        
-        String issueCode;
-        int attempts = 0;
-        int maxAttempts = 10;
-        
-        do {
-            // 6자리 랜덤 코드 생성 (영문대문자 + 숫자)
-            String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-            Random random = new Random();
-            StringBuilder sb = new StringBuilder(6);
-            
-            for (int i = 0; i < 6; i++) {
-                sb.append(characters.charAt(random.nextInt(characters.length())));
-            }
-            
-            issueCode = sb.toString();
-            attempts++;
-            
-            // 중복 확인
-            Issue existingIssue = mapper.selectByIssueCode(issueCode);
-            if (existingIssue == null) {
-                log.info("생성된 이슈 코드: {}", issueCode);
-                return issueCode;
+        String issueCode = issueCodeAllocator.next();
+        log.info("생성된 이슈 코드: {}", issueCode);
+        return issueCode;
+    }
+
+    /**
+     * 이슈 INSERT
+     * - 발급한 코드가 기존 랜덤 코드와 겹치면(UNIQUE 위반) 새 코드로 재시도
+     * - 사용자가 지정한 코드는 재시도하지 않음
+     */
+    private int insertIssue(Issue entity, boolean generatedCode) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return mapper.insert(entity);
+            } catch (DuplicateKeyException e) {
+                if (!generatedCode || attempt >= ISSUE_CODE_MAX_ATTEMPTS) throw e;
+                log.warn("이슈 코드 중복 - 재발급 issueCode={}, attempt={}", entity.getIssueCode(), attempt);
+                entity.setIssueCode(generateUniqueIssueCode());
             }
-            
-        } while (attempts < maxAttempts);
-        
-        // 최대 시도 횟수 초과 시 UUID 사용
-        log.warn("이슈 코드 생성 실패, UUID 사용");
-        return java.util.UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        }
     }
 
     @Transactional
@@ -197,11 +303,16 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
                 return false;
             }
             
+            String prevStatus = issue.getStatus();
             issue.setMediationProposals(mediationProposals);
             issue.setStatus("중재안제시");
             
             int result = mapper.updateById(issue);
             log.info("중재안 저장 결과 - result: {}", result);
+            if (result > 0) {
+                issueCountCache.invalidateStatuses(statuses(prevStatus, issue.getStatus()));
+                statisticsService.issueStatusChanged(prevStatus, issue.getStatus());
+            }
             
             return result > 0;
         } catch (Exception e) {
@@ -210,63 +321,84 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         }
     }
 
-    @Transactional
     @Override
     public boolean selectMediationProposal(Long issueNo, String selectedProposal) {
         log.info("## 중재안 선택 (최초/재선택 모두 허용) ##");
         log.info("issueNo={}, selectedProposal={}", issueNo, selectedProposal);
         
         try {
-            Issue issue = mapper.selectById(issueNo);
-            if (issue == null) {
-                log.error("이슈를 찾을 수 없습니다. issueNo={}", issueNo);
-                return false;
-            }
-
-            String prev = issue.getSelectedMediationProposal();
-            log.info("기존 선택 중재안: {}", prev);
-            
-            issue.setSelectedMediationProposal(selectedProposal);
-
-            if (!"중재안제시".equals(issue.getStatus())) {
-                issue.setStatus("중재안제시");
-            }
+            Set<String> allowed = StatusTransitions.allowedFrom(StatusTransitions.ISSUE, "중재안제시");
 
-            int result = mapper.updateById(issue);
+            // 중재안 + 상태만 변경 (현재 상태가 허용된 이전 상태일 때만)
+            int result = mapper.updateSelectedProposal(issueNo, allowed, selectedProposal, "중재안제시");
             log.info("중재안 선택/갱신 결과 - result: {}, newSelected={}", result, selectedProposal);
-            
-            return result > 0;
+            return afterTransition(issueNo, result, allowed, "중재안제시");
         } catch (Exception e) {
             log.error("중재안 선택 중 오류 발생", e);
             return false;
         }
     }
 
-    @Transactional
     @Override
     public boolean updateStatus(Long issueNo, String status) {
         log.info("## 이슈 상태 변경 ##");
         log.info("issueNo={}, status={}", issueNo, status);
         
+        return transitionStatus(issueNo, status, null);
+    }
+
+    @Override
+    public boolean transitionStatus(Long issueNo, String status, String flag) {
         try {
-            Issue issue = mapper.selectById(issueNo);
-            if (issue == null) {
-                log.error("이슈를 찾을 수 없습니다. issueNo={}", issueNo);
+            Set<String> allowed = StatusTransitions.allowedFrom(StatusTransitions.ISSUE, status);
+            if (allowed.isEmpty()) {
+                log.warn("허용되지 않는 이슈 상태 - issueNo={}, status={}", issueNo, status);
                 return false;
             }
-            
-            issue.setStatus(status);
-            
-            int result = mapper.updateById(issue);
-            log.info("이슈 상태 변경 결과 - result: {}", result);
-            
-            return result > 0;
+
+            // 상태(+flag) 단일 UPDATE (현재 상태가 허용된 이전 상태일 때만)
+            int result = mapper.compareAndSetStatus(issueNo, allowed, status, flag);
+            log.info("이슈 상태 변경 결과 - result: {}, {} → {}, flag={}", result, allowed, status, flag);
+            return afterTransition(issueNo, result, allowed, status);
         } catch (Exception e) {
             log.error("이슈 상태 변경 중 오류 발생", e);
             return false;
         }
     }
 
+    /**
+     * 상태 변경 결과 처리
+     * - 0건 : 이슈가 없거나, 현재 상태에서 허용되지 않는 전이 (다른 요청이 먼저 변경한 경우 포함)
+     * - 허용된 이전 상태가 하나면 통계 카운터를 바로 이동, 여럿이면 이전 상태를 알 수 없으므로 재계산 요청
+     */
+    private boolean afterTransition(Long issueNo, int result, Set<String> allowed, String status) {
+        if (result == 0) {
+            log.warn("이슈 상태 변경 거부 - 이슈가 없거나 현재 상태에서 허용되지 않음 issueNo={}, {} → {}", issueNo, allowed, status);
+            return false;
+        }
+        issueCountCache.invalidateStatuses(statuses(allowed, status));
+        if (allowed.size() == 1) {
+            String prevStatus = allowed.iterator().next();
+            if (!prevStatus.equals(status)) statisticsService.issueStatusChanged(prevStatus, status);
+        } else {
+            statisticsService.requestReconcile();
+        }
+        return true;
+    }
+
+    // 목록 COUNT 캐시 무효화 대상 상태 (중복/null 허용)
+    private static Set<String> statuses(String... statuses) {
+        return statuses(Set.of(), statuses);
+    }
+
+    private static Set<String> statuses(Set<String> base, String... statuses) {
+        Set<String> result = new HashSet<>(base);
+        for (String status : statuses) {
+            if (status != null) result.add(status);
+        }
+        return result;
+    }
+
     @Override
     public Issue selectByIssueNo(Long issueNo) {
         log.info("## 이슈 번호로 조회 ##");
@@ -275,8 +407,13 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         return mapper.selectByIssueNo(issueNo);
     }
 
+    /**
+     * 요약 분석 요청
+     * ⚠ @Transactional 을 걸지 않음 - OpenAI 호출(수 초) 동안 DB 커넥션을 점유하지 않도록
+     *   1) 조회 → 2) 분석중 표시(version 검사) → 3) AI 호출(트랜잭션 없음) → 4) 결과 저장(version 검사)
+     *   각 UPDATE 는 단일 문장이므로 자체로 짧은 트랜잭션
+     */
     @Override
-    @Transactional
     public Issue analyzeIssue(Long issueNo) {
         log.info("## AI - 요약 분석 요청 ##");
         log.info("issueNo={}", issueNo);
@@ -294,144 +431,300 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
             throw new IllegalStateException("conflict_situation 또는 requirements가 비어 있습니다. issueNo=" + issueNo);
         }
 
+        // 분석중 표시 - 동시에 들어온 분석 요청은 version 충돌로 한 건만 진행, 협상 단계로 넘어간 이슈는 분석 불가
+        // (분석중이면 오래된 경우에만 - 분석 도중 서버가 종료된 이슈)
+        if (!"분석중".equals(issue.getStatus()) && !StatusTransitions.ANALYZABLE.contains(issue.getStatus())) {
+            throw new IllegalStateException("현재 상태에서는 분석할 수 없습니다. issueNo=" + issueNo + ", status=" + issue.getStatus());
+        }
+        if (mapper.markAnalyzing(issueNo, issue.getVersion(), StatusTransitions.ANALYZABLE, staleAnalyzingMinutes) == 0) {
+            throw new OptimisticLockingFailureException("이슈가 다른 요청에 의해 변경되었거나 이미 분석 중입니다. issueNo=" + issueNo);
+        }
+        issue.setVersion(issue.getVersion() + 1);
+        issueCountCache.invalidateStatuses(statuses(issue.getStatus(), "분석중"));
+        statisticsService.issueStatusChanged(issue.getStatus(), "분석중");
+
         String analysisResult = "";
         String negotiationMessage = "";
 
         try {
-            // 1️⃣ 분석 결과 생성 프롬프트 (analysisResult 전용)
-            String promptAnalysis = """
-                    너는 공감형 협상 코치를 도와주는 AI야.
-
-                    아래 사용자의 갈등 상황과 요구 조건을 바탕으로,
-                    상황을 객관적으로 정리한 분석 요약만 작성해줘.
-
-                    [갈등 상황]
-                    %s
-
-                    [나의 요구조건]
-                    %s
-
-                    반드시 아래 출력 형식을 그대로 따라야 한다.
-
-                    출력 형식:
-                    ⚖️ 주요 쟁점
-                    - 핵심 쟁점 3~5개를 간결하게 불릿 형태로 정리
-                    - 문장은 짧고 명확하게
-                    - 사례, 원인, 갈등 포인트 중심
-
-                    💬 요구 조건
-                    - 사용자의 핵심 요구 2~4가지 정리
-                    - 실제 필요 / 원하는 결과 중심으로 요약
-
-                    📚 제시 근거
-                    - 근거가 될 수 있는 정보, 상황, 논리를 2~4개 작성
-                    - 객관적 자료나 일반적인 기준을 예시로 포함
-
-                    주의사항:
-                    - 협상 메시지, 편지 형식, 상대방에게 직접 말 거는 문장은 작성하지 않는다.
-                    - 인사말, 결론 문구, "감사합니다" 같은 표현은 쓰지 않는다.
-                    - 제목(⚖️ 💬 📚)은 그대로 출력한다.
-                    - Markdown 불릿(-)만 사용한다.
-                    - 불필요한 설명 없이 리스트만 출력한다.
-                    """.formatted(conflict, requirements);
+            if (ANALYZE_MODE_PARALLEL.equalsIgnoreCase(analyzeMode)) {
+                // ⚡ 병렬 모드 : 분석 결과 + 협상 메시지 초안을 동시에 생성
+                // - 협상 메시지는 분석 결과 대신 원문(갈등상황/요구조건)으로 초안 생성
+                // - 초안이 분석 결과의 요구 조건을 빠뜨렸으면 한 번 더 다듬음
+                Tuple2<String, String> results = Mono.zip(
+                        llmClient.chatAsync(buildAnalysisPrompt(conflict, requirements)),
+                        llmClient.chatAsync(buildDraftNegotiationPrompt(conflict, requirements))
+                ).block();
+
+                analysisResult = results.getT1().trim();
+                negotiationMessage = reconcileNegotiationMessage(issueNo, analysisResult, results.getT2());
+            } else {
+                // 1️⃣ 분석 결과 생성
+                analysisResult = llmClient.chat(buildAnalysisPrompt(conflict, requirements)).trim();
+
+                // 2️⃣ 분석 결과 기반 협상 메시지 생성
+                negotiationMessage = llmClient.chat(buildNegotiationPrompt(analysisResult)).trim();
+            }
 
-            analysisResult = callOpenAi(promptAnalysis).trim();
             issue.setAnalysisResult(analysisResult);
-
-            // 2️⃣ 협상 메시지 생성 프롬프트 (negotiationMessage 전용)
-            String promptNegotiation = """
-                    너는 공감형 협상 코치를 도와주는 AI야.
-
-                    아래는 사용자의 갈등 상황을 정리한 분석 결과야.
-                    이 분석 결과를 바탕으로, 상대방에게 보낼 정중한 협상 메시지를 작성해줘.
-
-                    [분석 결과(analysisResult)]
-                    %s
-
-                    협상 메시지 작성 규칙:
-                    - 한국어로 작성한다.
-                    - 첫 문장은 안녕하세요. 시작한다.
-                    - 5~8문장 정도의 하나의 메시지로 작성한다.
-                    - 상대방을 존중하는 톤으로, 감정적인 비난 없이 쓴다.
-                    - I-message(나 중심 표현)를 사용한다. (예: "저는 ~라고 느꼈습니다.")
-                    - 나의 요구 조건을 분명하지만 부드럽게 전달한다.
-                    - 상대방도 수용할 수 있는 대안이나 제안을 1~2개 포함한다.
-
-                    주의사항:
-                    - 불릿(-)이나 번호목록을 사용하지 않는다.
-                    - 제목, 섹션명(⚖️, 💬, 📚 등)을 쓰지 않는다.
-                    - 분석 내용을 다시 요약하지 말고, 실제로 상대방에게 보내는 편지 형태로만 쓴다.
-                    """.formatted(analysisResult);
-
-            negotiationMessage = callOpenAi(promptNegotiation).trim();
             issue.setNegotiationMessage(negotiationMessage);
-
             issue.setStatus("분석완료");
 
-            // 🔥 분석결과 + 협상메시지 + 상태 한 번에 업데이트
-            int updatedRows = mapper.updateAnalysisResult(issue);
-            if (updatedRows == 0) {
-                throw new IllegalStateException("analysis_result 업데이트 실패. issueNo=" + issueNo);
-            }
-            return mapper.selectByIssueNo(issueNo);
-
         } catch (Exception e) {
             log.error("AI 분석 중 오류 발생 issueNo={}", issueNo, e);
 
             issue.setAnalysisResult("AI 분석 실패: " + e.getMessage());
             issue.setStatus("분석실패");
 
-            mapper.updateAnalysisResult(issue);  // 실패 시 분석 결과/상태만 업데이트
+            // 실패 시 분석 결과/상태만 업데이트 (그 사이 변경되었다면 덮어쓰지 않음)
+            if (mapper.updateAnalysisResult(issue) == 0) {
+                log.warn("분석 실패 상태 저장 생략 - 이슈가 변경됨 issueNo={}", issueNo);
+            } else {
+                issueCountCache.invalidateStatuses(statuses("분석중", issue.getStatus()));
+                statisticsService.issueStatusChanged("분석중", issue.getStatus());
+            }
             return issue;
         }
+
+        // 🔥 분석결과 + 협상메시지 + 상태 한 번에 업데이트
+        int updatedRows = mapper.updateAnalysisResult(issue);
+        if (updatedRows == 0) {
+            throw new OptimisticLockingFailureException("분석 중 이슈가 변경되어 결과를 저장하지 않았습니다. issueNo=" + issueNo);
+        }
+        issueCountCache.invalidateStatuses(statuses("분석중", issue.getStatus()));
+        statisticsService.issueStatusChanged("분석중", issue.getStatus());
+        return mapper.selectByIssueNo(issueNo);
     }
 
-    @SuppressWarnings("unchecked")
-    private String callOpenAi(String prompt) {
 
-        WebClient webClient = WebClient.builder()
-                .baseUrl("https://api.openai.com/v1/chat/completions")
-                .defaultHeader("Authorization", "Bearer " + apiKey)
-                .defaultHeader("Content-Type", "application/json")
-                .build();
+    /**
+     * 협상 메시지 스트리밍 생성
+     * - 분석 결과가 있으면 분석 결과 기반, 없으면 원문(갈등상황/요구조건) 기반으로 생성
+     * - 스트림이 끝나면 완성된 메시지를 updateAnalysisResult 로 저장 (version 검사)
+     * - 클라이언트가 중간에 연결을 끊어도 생성은 끝까지 진행하고 저장
+     */
+    @Override
+    public Flux<String> streamNegotiationMessage(Long issueNo) {
+        log.info("## AI - 협상 메시지 스트리밍 요청 ##");
+        log.info("issueNo={}", issueNo);
 
-        // ✅ WebClient가 JSON으로 자동 직렬화 하도록 Map으로 요청 바디 생성
-        Map<String, Object> requestBody = Map.of(
-                "model", model,
-                "messages", List.of(
-                        Map.of("role", "system", "content", "You are a helpful Korean counselor."),
-                        Map.of("role", "user", "content", prompt)
-                ),
-                "temperature", 0.3
-        );
+        Issue issue = mapper.selectByIssueNo(issueNo);
+        if (issue == null) {
+            throw new IllegalArgumentException("해당 ID의 이슈를 찾을 수 없습니다. issueNo=" + issueNo);
+        }
+
+        String conflict = issue.getConflictSituation();
+        String requirements = issue.getRequirements();
+        String analysisResult = issue.getAnalysisResult();
+
+        String prompt;
+        if (analysisResult != null && !analysisResult.isBlank() && "분석완료".equals(issue.getStatus())) {
+            prompt = buildNegotiationPrompt(analysisResult);
+        } else if (conflict != null && !conflict.isBlank() && requirements != null && !requirements.isBlank()) {
+            prompt = buildDraftNegotiationPrompt(conflict, requirements);
+        } else {
+            throw new IllegalStateException("conflict_situation 또는 requirements가 비어 있습니다. issueNo=" + issueNo);
+        }
 
-        log.info("### OpenAI 요청 바디: {}", requestBody);
+        StringBuilder message = new StringBuilder();
+
+        Mono<String> persist = Mono.fromRunnable(() -> {
+                    issue.setNegotiationMessage(cleanNegotiationMessage(message.toString()));
+                    if (mapper.updateAnalysisResult(issue) == 0) {
+                        log.warn("협상 메시지 저장 생략 - 스트리밍 중 이슈가 변경됨 issueNo={}", issueNo);
+                    } else {
+                        log.info("협상 메시지 스트리밍 저장 완료 issueNo={}", issueNo);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.empty());
+
+        // 생성 + 저장을 한 번만 구독해 끝까지 실행 (cache : 구독자가 취소해도 원본 구독은 유지)
+        // → 모바일 클라이언트가 스트리밍 도중 끊겨도 LLM 호출은 끝까지 진행되고 완성된 메시지가 저장됨
+        Flux<String> generation = llmClient.chatStream(prompt)
+                .doOnNext(message::append)
+                .concatWith(persist)
+                .cache();
+
+        return generation
+                .doOnCancel(() -> log.info("협상 메시지 스트리밍 구독 취소 - 생성/저장은 계속 진행 issueNo={}", issueNo));
+    }
 
-        Map<String, Object> response = webClient.post()
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+    /**
+     * 분석 결과(analysisResult) 생성 프롬프트
+     */
+    private String buildAnalysisPrompt(String conflict, String requirements) {
+        return """
+                너는 공감형 협상 코치를 도와주는 AI야.
+
+                아래 사용자의 갈등 상황과 요구 조건을 바탕으로,
+                상황을 객관적으로 정리한 분석 요약만 작성해줘.
+
+                [갈등 상황]
+                %s
+
+                [나의 요구조건]
+                %s
+
+                반드시 아래 출력 형식을 그대로 따라야 한다.
+
+                출력 형식:
+                ⚖️ 주요 쟁점
+                - 핵심 쟁점 3~5개를 간결하게 불릿 형태로 정리
+                - 문장은 짧고 명확하게
+                - 사례, 원인, 갈등 포인트 중심
+
+                💬 요구 조건
+                - 사용자의 핵심 요구 2~4가지 정리
+                - 실제 필요 / 원하는 결과 중심으로 요약
+
+                📚 제시 근거
+                - 근거가 될 수 있는 정보, 상황, 논리를 2~4개 작성
+                - 객관적 자료나 일반적인 기준을 예시로 포함
+
+                주의사항:
+                - 협상 메시지, 편지 형식, 상대방에게 직접 말 거는 문장은 작성하지 않는다.
+                - 인사말, 결론 문구, "감사합니다" 같은 표현은 쓰지 않는다.
+                - 제목(⚖️ 💬 📚)은 그대로 출력한다.
+                - Markdown 불릿(-)만 사용한다.
+                - 불필요한 설명 없이 리스트만 출력한다.
+                """.formatted(conflict, requirements);
+    }
 
-        log.info("### OpenAI 응답: {}", response);
+    /**
+     * 협상 메시지(negotiationMessage) 생성 프롬프트 - 분석 결과 기반 (순차 모드)
+     */
+    private String buildNegotiationPrompt(String analysisResult) {
+        return """
+                너는 공감형 협상 코치를 도와주는 AI야.
+
+                아래는 사용자의 갈등 상황을 정리한 분석 결과야.
+                이 분석 결과를 바탕으로, 상대방에게 보낼 정중한 협상 메시지를 작성해줘.
+
+                [분석 결과(analysisResult)]
+                %s
+
+                협상 메시지 작성 규칙:
+                - 한국어로 작성한다.
+                - 첫 문장은 안녕하세요. 시작한다.
+                - 5~8문장 정도의 하나의 메시지로 작성한다.
+                - 상대방을 존중하는 톤으로, 감정적인 비난 없이 쓴다.
+                - I-message(나 중심 표현)를 사용한다. (예: "저는 ~라고 느꼈습니다.")
+                - 나의 요구 조건을 분명하지만 부드럽게 전달한다.
+                - 상대방도 수용할 수 있는 대안이나 제안을 1~2개 포함한다.
+
+                주의사항:
+                - 불릿(-)이나 번호목록을 사용하지 않는다.
+                - 제목, 섹션명(⚖️, 💬, 📚 등)을 쓰지 않는다.
+                - 분석 내용을 다시 요약하지 말고, 실제로 상대방에게 보내는 편지 형태로만 쓴다.
+                """.formatted(analysisResult);
+    }
 
-        if (response == null || !response.containsKey("choices")) {
-            throw new IllegalStateException("OpenAI 응답이 비어있거나 choices가 없습니다.");
-        }
+    /**
+     * 협상 메시지(negotiationMessage) 초안 생성 프롬프트 - 원문 기반 (병렬 모드)
+     * - 분석 결과를 기다리지 않고 갈등 상황/요구 조건으로 바로 작성
+     */
+    private String buildDraftNegotiationPrompt(String conflict, String requirements) {
+        return """
+                너는 공감형 협상 코치를 도와주는 AI야.
+
+                아래 사용자의 갈등 상황과 요구 조건을 바탕으로,
+                상대방에게 보낼 정중한 협상 메시지를 작성해줘.
+
+                [갈등 상황]
+                %s
+
+                [나의 요구조건]
+                %s
+
+                협상 메시지 작성 규칙:
+                - 한국어로 작성한다.
+                - 첫 문장은 안녕하세요. 시작한다.
+                - 5~8문장 정도의 하나의 메시지로 작성한다.
+                - 상대방을 존중하는 톤으로, 감정적인 비난 없이 쓴다.
+                - I-message(나 중심 표현)를 사용한다. (예: "저는 ~라고 느꼈습니다.")
+                - 핵심 쟁점을 스스로 정리한 뒤, 나의 요구 조건을 분명하지만 부드럽게 전달한다.
+                - 상대방도 수용할 수 있는 대안이나 제안을 1~2개 포함한다.
+
+                주의사항:
+                - 불릿(-)이나 번호목록을 사용하지 않는다.
+                - 제목, 섹션명(⚖️, 💬, 📚 등)을 쓰지 않는다.
+                - 분석 요약을 쓰지 말고, 실제로 상대방에게 보내는 편지 형태로만 쓴다.
+                """.formatted(conflict, requirements);
+    }
 
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-        if (choices == null || choices.isEmpty()) {
-            throw new IllegalStateException("OpenAI 응답 choices가 비어 있습니다.");
-        }
+    /**
+     * 협상 메시지 초안 수정 프롬프트 - 빠진 요구 조건 반영 (병렬 모드)
+     */
+    private String buildReviseNegotiationPrompt(String analysisResult, String draft, List<String> missing) {
+        return """
+                너는 공감형 협상 코치를 도와주는 AI야.
+
+                아래 협상 메시지 초안은 분석 결과를 보기 전에 작성되어,
+                분석 결과의 요구 조건 중 일부가 빠져 있어.
+                초안의 톤과 길이를 유지하면서 빠진 요구 조건을 자연스럽게 반영해 다시 작성해줘.
+
+                [분석 결과(analysisResult)]
+                %s
+
+                [빠진 요구 조건]
+                %s
+
+                [협상 메시지 초안]
+                %s
+
+                협상 메시지 작성 규칙:
+                - 한국어로 작성한다.
+                - 첫 문장은 안녕하세요. 시작한다.
+                - 5~8문장 정도의 하나의 메시지로 작성한다.
+                - 분석 결과와 어긋나는 내용은 분석 결과에 맞게 고친다.
+
+                주의사항:
+                - 불릿(-)이나 번호목록을 사용하지 않는다.
+                - 제목, 섹션명(⚖️, 💬, 📚 등)을 쓰지 않는다.
+                - 수정한 협상 메시지만 출력한다.
+                """.formatted(analysisResult, String.join("\n", missing), draft);
+    }
 
-        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-        if (message == null || message.get("content") == null) {
-            throw new IllegalStateException("OpenAI 응답에 message.content가 없습니다.");
+    /**
+     * 병렬 모드 협상 메시지 초안을 분석 결과와 맞춤
+     * - 분석 결과의 요구 조건(💬)이 초안에 모두 반영되었으면 초안 그대로 사용
+     * - 빠진 요구 조건이 있으면 분석 결과 + 초안으로 짧은 수정 요청 1회
+     * ⚠ 수정 요청이 실패하면 초안을 그대로 사용 (분석 자체는 성공)
+     */
+    private String reconcileNegotiationMessage(Long issueNo, String analysisResult, String draft) {
+        String cleaned = cleanNegotiationMessage(draft);
+        List<String> missing = requirementCoverage.missing(analysisResult, cleaned);
+        if (missing.isEmpty()) return cleaned;
+
+        log.info("협상 메시지 초안에 빠진 요구 조건 {}건 - 수정 요청 issueNo={}", missing.size(), issueNo);
+        try {
+            return cleanNegotiationMessage(llmClient.chat(buildReviseNegotiationPrompt(analysisResult, cleaned, missing)));
+        } catch (Exception e) {
+            log.warn("협상 메시지 초안 수정 실패 - 초안 사용 issueNo={}", issueNo, e);
+            return cleaned;
         }
+    }
 
-        String content = (String) message.get("content");
-        log.info("### OpenAI content: {}", content);
-        return content;
+    /**
+     * 협상 메시지 정리
+     * - 분석 결과 없이 생성된 초안에 섞여 들어올 수 있는 섹션명/불릿을 제거해
+     *   순차 모드와 같은 편지 형태로 맞춤
+     */
+    private String cleanNegotiationMessage(String draft) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : draft.trim().split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("⚖️") || trimmed.startsWith("💬") || trimmed.startsWith("📚")) {
+                continue;
+            }
+            if (trimmed.startsWith("- ")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (sb.length() > 0) sb.append('\n');
+            sb.append(trimmed);
+        }
+        return sb.toString().trim();
     }
 
     public boolean updateOpponent(Long issueNo, String name, String contact) {
@@ -460,48 +753,43 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
             issue.setNegotiationMessage(replaced);
         }
 
-        return mapper.updateById(issue) > 0;
+        // 상대방 회원 매칭 / 검색 대상(상대방 이름)이 바뀔 수 있음
+        boolean updated = mapper.updateById(issue) > 0;
+        if (updated) issueCountCache.invalidateAll();
+        return updated;
     }
 
     @Override
     @Transactional
-    public void linkOpponentIssuesAfterSignup(Users user) {
-        String phone = user.getTel();
-        if (phone == null || phone.isBlank()) {
-            return;
+    public int linkOpponentIssuesAfterSignup(Long userNo, String phone) {
+        if (userNo == null || phone == null || phone.isBlank()) {
+            return 0;
         }
 
-        // 1) opponent_contact = 이 전화번호
-        // 2) opponent_user_no IS NULL 인 이슈들만 조회
-        List<Issue> list = mapper.selectByOpponentContactWithoutUserNo(phone);
+        // opponent_contact = 이 전화번호 이면서 아직 매칭되지 않은 이슈를 한 번에 갱신
+        int affected = mapper.linkOpponentUserNo(phone, userNo);
+        if (affected > 0) issueCountCache.invalidateUser(userNo);
 
-        for (Issue issue : list) {
-            issue.setOpponentUserNo(user.getNo());
-            mapper.updateById(issue);
-        }
-
-        log.info("회원가입 후 opponent 매핑 완료 - userNo={}, affectedIssues={}",
-                user.getNo(), list.size());
+        log.info("회원가입 후 opponent 매핑 완료 - userNo={}, affectedIssues={}", userNo, affected);
+        return affected;
     }
 
     @Override
     public List<Issue> selectMyIssues(Long userNo) {
         log.info("## 내가 참여한 이슈 목록 조회 ## userNo={}", userNo);
 
-        List<Issue> asSender = mapper.selectByUserNo(userNo);           // 내가 만든 이슈
-        List<Issue> asOpponent = mapper.selectByOpponentUserNo(userNo); // 내가 상대방인 이슈
-
-        // ⚠️ 같은 이슈가 두 번 들어오지 않도록 PK 기준으로 합치기 (no 기준 가정)
-        Map<Long, Issue> merged = new java.util.LinkedHashMap<>();
+        // 발신 + 수신을 한 쿼리로 (UNION ALL, 최신순)
+        QueryParams queryParams = new QueryParams();
+        queryParams.setUserNo(userNo);
+        return mapper.selectMyIssues(queryParams);
+    }
 
-        for (Issue i : asSender) {
-            merged.put(i.getNo(), i);
-        }
-        for (Issue i : asOpponent) {
-            merged.putIfAbsent(i.getNo(), i);
-        }
+    @Override
+    public CursorPage<Issue> myIssuesCursorPage(QueryParams queryParams) {
+        log.info("## 내가 참여한 이슈 커서 페이징 조회 ##");
+        log.info("queryParams={}", queryParams);
 
-        return new java.util.ArrayList<>(merged.values());
+        return keysetPage(queryParams, mapper::selectMyIssues);
     }
 
     @Override
@@ -509,6 +797,8 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         log.info("## 상대방 의견 추가 ##");
         try {
             int updated = mapper.updateOpponentRequirements(issueNo, opponentRequirements, "상대방응답");
+            // 이전 상태를 모르므로 전체 무효화
+            if (updated > 0) issueCountCache.invalidateAll();
             return updated > 0;   // 업데이트 성공 여부 반환
         } catch (Exception e) {
             log.error("상대방 의견 업데이트 중 오류 발생", e);
@@ -522,6 +812,8 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         log.info("issueNo={}, selectedMediationProposal={}, additionalConditions={}", issueNo, selectedMediationProposal, additionalConditions);
         try {
             int updated = mapper.updateRequestedMediationProposals(issueNo, selectedMediationProposal, additionalConditions, "중재안제시");
+            // 이전 상태를 모르므로 전체 무효화
+            if (updated > 0) issueCountCache.invalidateAll();
             return updated > 0;   // 업데이트 성공 여부 반환
         } catch (Exception e) {
             log.error("선택된 중재안 및 추가조건 업데이트 중 오류 발생", e);
@@ -529,22 +821,13 @@ public class IssueServiceImpl extends BaseServiceImpl<Issue, IssueMapper> implem
         } 
     }
 
-    @Transactional
     @Override
     public boolean updateFlag(Long issueNo, String flag) {
         log.info("## flag 상태 변경 ##");
         log.info("issueNo={}, flag={}", issueNo, flag);
         
         try {
-            Issue issue = mapper.selectById(issueNo);
-            if (issue == null) {
-                log.error("이슈를 찾을 수 없습니다. issueNo={}", issueNo);
-                return false;
-            }
-            
-            issue.setFlag(flag);
-            
-            int result = mapper.updateById(issue);
+            int result = mapper.updateFlag(issueNo, flag);
             log.info("flag 상태 변경 결과 - result: {}", result);
             
             return result > 0;
@@ -1,6 +1,7 @@
 package com.gentle.talk.service.core;
 
 import com.github.pagehelper.PageInfo;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 import com.gentle.talk.domain.core.Negotiation;
 import com.gentle.talk.service.BaseService;
@@ -21,6 +22,9 @@ public interface NegotiationService extends BaseService<Negotiation> {
     // 페이징 조회
     PageInfo<Negotiation> page(QueryParams queryParams);
 
+    // 커서(keyset) 페이징 조회
+    CursorPage<Negotiation> cursorPage(QueryParams queryParams);
+
     // 협상 수정
     boolean update(Negotiation entity);
     
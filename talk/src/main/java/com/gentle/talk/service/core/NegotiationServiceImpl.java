@@ -6,15 +6,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.github.pagehelper.PageHelper;
 import com.github.pagehelper.PageInfo;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 import com.gentle.talk.domain.core.Negotiation;
 import com.gentle.talk.mapper.core.NegotiationMapper;
 import com.gentle.talk.service.BaseServiceImpl;
+import com.gentle.talk.service.common.StatisticsService;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -23,6 +26,9 @@ public class NegotiationServiceImpl extends BaseServiceImpl<Negotiation, Negotia
     @Autowired
     NegotiationMapper mapper;
 
+    @Autowired
+    StatisticsService statisticsService;
+
     @Transactional
     @Override
     public boolean register(Negotiation entity) {
@@ -37,6 +43,7 @@ public class NegotiationServiceImpl extends BaseServiceImpl<Negotiation, Negotia
             
             int result = mapper.insert(entity);
             log.info("협상 등록 결과 - result: {}", result);
+            if (result > 0) statisticsService.negotiationCreated(entity.getStatus());
             
             return result > 0;
         } catch (Exception e) {
@@ -66,10 +73,8 @@ public class NegotiationServiceImpl extends BaseServiceImpl<Negotiation, Negotia
         log.info("## 협상 페이징 조회 ##");
         log.info("queryParams={}", queryParams);
         
-        // PageHelper 설정
-        int page = queryParams.getPage();
-        int size = queryParams.getSize();
-        PageHelper.startPage(page, size);
+        // PageHelper 설정 (withCount=false 이면 COUNT 생략)
+        startOffsetPage(queryParams);
         
         List<Negotiation> list = mapper.listWithParams(queryParams);
         PageInfo<Negotiation> pageInfo = new PageInfo<>(list);
@@ -78,6 +83,14 @@ public class NegotiationServiceImpl extends BaseServiceImpl<Negotiation, Negotia
         return pageInfo;
     }
 
+    @Override
+    public CursorPage<Negotiation> cursorPage(QueryParams queryParams) {
+        log.info("## 협상 커서 페이징 조회 ##");
+        log.info("queryParams={}", queryParams);
+
+        return keysetPage(queryParams, mapper::listWithParams);
+    }
+
     @Transactional
     @Override
     public boolean update(Negotiation entity) {
@@ -119,102 +132,65 @@ public class NegotiationServiceImpl extends BaseServiceImpl<Negotiation, Negotia
         return mapper.selectOngoingNegotiations(userNo);
     }
 
-    @Transactional
     @Override
     public boolean acceptNegotiation(Long negotiationNo) {
         log.info("## 협상 수락 ##");
         log.info("negotiationNo={}", negotiationNo);
         
-        try {
-            Negotiation negotiation = mapper.selectById(negotiationNo);
-            if (negotiation == null) {
-                log.error("협상을 찾을 수 없습니다. negotiationNo={}", negotiationNo);
-                return false;
-            }
-            
-            negotiation.setStatus("수락");
-            negotiation.setAcceptedAt(LocalDateTime.now());
-            
-            int result = mapper.updateById(negotiation);
-            log.info("협상 수락 결과 - result: {}", result);
-            
-            return result > 0;
-        } catch (Exception e) {
-            log.error("협상 수락 중 오류 발생", e);
-            return false;
-        }
+        return transition(negotiationNo, "수락", LocalDateTime.now(), null);
     }
 
-    @Transactional
     @Override
     public boolean finalizeNegotiation(Long negotiationNo) {
         log.info("## 협상 체결 ##");
         log.info("negotiationNo={}", negotiationNo);
         
-        try {
-            Negotiation negotiation = mapper.selectById(negotiationNo);
-            if (negotiation == null) {
-                log.error("협상을 찾을 수 없습니다. negotiationNo={}", negotiationNo);
-                return false;
-            }
-            
-            negotiation.setStatus("체결");
-            negotiation.setFinalizedAt(LocalDateTime.now());
-            
-            int result = mapper.updateById(negotiation);
-            log.info("협상 체결 결과 - result: {}", result);
-            
-            return result > 0;
-        } catch (Exception e) {
-            log.error("협상 체결 중 오류 발생", e);
-            return false;
-        }
+        return transition(negotiationNo, "체결", null, LocalDateTime.now());
     }
 
-    @Transactional
     @Override
     public boolean rejectNegotiation(Long negotiationNo) {
         log.info("## 협상 불발 ##");
         log.info("negotiationNo={}", negotiationNo);
         
-        try {
-            Negotiation negotiation = mapper.selectById(negotiationNo);
-            if (negotiation == null) {
-                log.error("협상을 찾을 수 없습니다. negotiationNo={}", negotiationNo);
-                return false;
-            }
-            
-            negotiation.setStatus("불발");
-            
-            int result = mapper.updateById(negotiation);
-            log.info("협상 불발 결과 - result: {}", result);
-            
-            return result > 0;
-        } catch (Exception e) {
-            log.error("협상 불발 중 오류 발생", e);
-            return false;
-        }
+        return transition(negotiationNo, "불발", null, null);
     }
 
-    @Transactional
     @Override
     public boolean updateStatus(Long negotiationNo, String status) {
         log.info("## 협상 상태 변경 ##");
         log.info("negotiationNo={}, status={}", negotiationNo, status);
         
+        return transition(negotiationNo, status, null, null);
+    }
+
+    /**
+     * 협상 상태 변경
+     * - 전이 표(StatusTransitions.NEGOTIATION)에 있는 전이만 허용
+     * - 상태(+수락/체결 일시)만 단일 UPDATE, 현재 상태가 허용된 이전 상태일 때만 반영 (조회 없음)
+     * - 허용된 이전 상태가 하나면 통계 카운터를 바로 이동, 여럿이면 재계산 요청
+     * @return 이번 요청으로 상태가 바뀌었으면 true
+     */
+    private boolean transition(Long negotiationNo, String status, LocalDateTime acceptedAt, LocalDateTime finalizedAt) {
         try {
-            Negotiation negotiation = mapper.selectById(negotiationNo);
-            if (negotiation == null) {
-                log.error("협상을 찾을 수 없습니다. negotiationNo={}", negotiationNo);
+            Set<String> allowed = StatusTransitions.allowedFrom(StatusTransitions.NEGOTIATION, status);
+            if (allowed.isEmpty()) {
+                log.warn("허용되지 않는 협상 상태 - negotiationNo={}, status={}", negotiationNo, status);
                 return false;
             }
-            
-            negotiation.setStatus(status);
-            
-            int result = mapper.updateById(negotiation);
-            log.info("협상 상태 변경 결과 - result: {}", result);
-            
-            return result > 0;
+
+            int result = mapper.compareAndSetStatus(negotiationNo, allowed, status, acceptedAt, finalizedAt);
+            log.info("협상 상태 변경 결과 - result: {}, {} → {}", result, allowed, status);
+            if (result == 0) {
+                log.warn("협상 상태 변경 거부 - 협상이 없거나 현재 상태에서 허용되지 않음 negotiationNo={}, {} → {}", negotiationNo, allowed, status);
+                return false;
+            }
+            if (allowed.size() == 1) {
+                statisticsService.negotiationStatusChanged(allowed.iterator().next(), status);
+            } else {
+                statisticsService.requestReconcile();
+            }
+            return true;
         } catch (Exception e) {
             log.error("협상 상태 변경 중 오류 발생", e);
             return false;
@@ -0,0 +1,39 @@
+package com.gentle.talk.service.core;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gentle.talk.service.users.UserJoinedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 회원가입 후 상대방 이슈 연결
+ * - 가입한 전화번호가 상대방 연락처(opponent_contact)로 등록된 이슈에 opponent_user_no 매칭
+ * ✅ 회원가입 커밋 이후 eventExecutor 에서 실행 → 가입 응답 시간이 매칭 건수와 무관
+ * ✅ UPDATE 한 번으로 처리 (이슈별 조회 + 전체 컬럼 갱신 X)
+ * ⚠ 실패해도 회원가입은 이미 커밋됨 → 오류 로그만 남김
+ */
+@Slf4j
+@Component
+public class OpponentIssueLinker {
+
+    @Autowired IssueService issueService;
+
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserJoined(UserJoinedEvent event) {
+        if (event.tel() == null || event.tel().isBlank()) {
+            return;
+        }
+        try {
+            issueService.linkOpponentIssuesAfterSignup(event.userNo(), event.tel());
+        } catch (Exception e) {
+            log.error("회원가입 후 opponent 매핑 중 오류 발생 - userNo={}", event.userNo(), e);
+        }
+    }
+
+}
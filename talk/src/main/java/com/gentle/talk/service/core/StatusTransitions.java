@@ -0,0 +1,68 @@
+package com.gentle.talk.service.core;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🍃 상태 전이 표 (변경할 상태 → 변경 가능한 이전 상태)
+ * - 이슈 / 협상 상태 변경은 이 표에 있는 전이만 허용
+ * - 실제 변경은 조회 없이 단일 UPDATE 로 반영 (UPDATE ... WHERE no = ? AND status IN (변경 가능한 이전 상태))
+ *   → 현재 상태가 허용되지 않거나, 동시에 들어온 다른 변경이 먼저 상태를 바꿨으면 0건
+ * ⚠ 분석 흐름(분석중 → 분석완료/분석실패)은 analyzeIssue 에서 version 으로 함께 검사
+ */
+public final class StatusTransitions {
+
+    private StatusTransitions() {}
+
+    /**
+     * 이슈 상태
+     * - 대기 → 분석중 → 분석완료 → 상대방대기 → 상대방응답 → 중재안제시 → 협상완료 / 협상결렬
+     * ✅ 상대방대기 → 상대방대기 : 문자 재전송
+     * ✅ 중재안제시 → 중재안제시 : 중재안 재선택
+     */
+    public static final Map<String, Set<String>> ISSUE = Map.of(
+            "대기",       Set.of("분석실패"),
+            "분석완료",   Set.of("분석중"),
+            "상대방대기", Set.of("분석완료", "상대방대기"),
+            "상대방응답", Set.of("상대방대기"),
+            "중재안제시", Set.of("분석완료", "상대방대기", "상대방응답", "중재안제시"),
+            "협상완료",   Set.of("상대방대기", "상대방응답", "중재안제시"),
+            "협상결렬",   Set.of("상대방대기", "상대방응답", "중재안제시")
+    );
+
+    /**
+     * 분석을 시작(분석중으로 변경)할 수 있는 이슈 상태 - analyzeIssue 전용
+     * ✅ 분석완료 / 분석실패 → 분석중 : 재분석
+     * ⚠ ISSUE 표에 넣지 않음 (상태 변경 API 로 분석중을 직접 지정하지 못하도록)
+     */
+    public static final Set<String> ANALYZABLE = Set.of("대기", "분석실패", "분석완료");
+
+    /**
+     * 협상 상태
+     * - 대기 → 수락 → 체결, 대기/수락 → 불발, 체결/불발 → 종료
+     */
+    public static final Map<String, Set<String>> NEGOTIATION = Map.of(
+            "수락", Set.of("대기"),
+            "체결", Set.of("수락"),
+            "불발", Set.of("대기", "수락"),
+            "종료", Set.of("체결", "불발")
+    );
+
+    /**
+     * 변경할 상태로 전이할 수 있는 이전 상태 목록 (없으면 빈 집합)
+     */
+    public static Set<String> allowedFrom(Map<String, Set<String>> table, String to) {
+        if (to == null) return Set.of();
+        return table.getOrDefault(to, Set.of());
+    }
+
+    /**
+     * 전이 허용 여부
+     */
+    public static boolean canTransition(Map<String, Set<String>> table, String from, String to) {
+        if (from == null || to == null) return false;
+        Set<String> allowed = table.get(to);
+        return allowed != null && allowed.contains(from);
+    }
+
+}
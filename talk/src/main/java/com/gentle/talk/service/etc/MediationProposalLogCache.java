@@ -0,0 +1,103 @@
+package com.gentle.talk.service.etc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gentle.talk.domain.etc.MediationProposalLog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 중재안 로그 조회 캐시 (Caffeine, 프로세스 내)
+ * ✅ similar    : categoryNo + hash + limit
+ * ✅ candidates : categoryNo + hash + limit (근사 중복 후보)
+ * ✅ popular    : categoryNo + limit
+ * ✅ recent     : categoryNo + limit
+ * - 크기 제한(LRU 계열) + TTL, 등록/수정/삭제 시 해당 카테고리 키만 무효화
+ * - hit/miss 는 /actuator/metrics/cache.gets?tag=cache:mediation.popular 등으로 확인
+ */
+@Slf4j
+@Component
+public class MediationProposalLogCache {
+
+    public record Key(Long categoryNo, String hash, int limit) {}
+
+    private final Cache<Key, List<MediationProposalLog>> similar;
+    private final Cache<Key, List<MediationProposalLog>> candidates;
+    private final Cache<Key, List<MediationProposalLog>> popular;
+    private final Cache<Key, List<MediationProposalLog>> recent;
+
+    public MediationProposalLogCache(MeterRegistry meterRegistry,
+                                     @Value("${mediation.cache.maximum-size:1000}") long maximumSize,
+                                     @Value("${mediation.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.similar    = build(meterRegistry, "mediation.similar", maximumSize, ttlSeconds);
+        this.candidates = build(meterRegistry, "mediation.candidates", maximumSize, ttlSeconds);
+        this.popular    = build(meterRegistry, "mediation.popular", maximumSize, ttlSeconds);
+        this.recent     = build(meterRegistry, "mediation.recent", maximumSize, ttlSeconds);
+    }
+
+    private Cache<Key, List<MediationProposalLog>> build(MeterRegistry meterRegistry, String name, long maximumSize, long ttlSeconds) {
+        Cache<Key, List<MediationProposalLog>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    public List<MediationProposalLog> similar(Long categoryNo, String hash, int limit, Supplier<List<MediationProposalLog>> loader) {
+        return get(similar, new Key(categoryNo, hash, limit), loader);
+    }
+
+    public List<MediationProposalLog> candidates(Long categoryNo, String hash, int limit, Supplier<List<MediationProposalLog>> loader) {
+        return get(candidates, new Key(categoryNo, hash, limit), loader);
+    }
+
+    public List<MediationProposalLog> popular(Long categoryNo, int limit, Supplier<List<MediationProposalLog>> loader) {
+        return get(popular, new Key(categoryNo, null, limit), loader);
+    }
+
+    public List<MediationProposalLog> recent(Long categoryNo, int limit, Supplier<List<MediationProposalLog>> loader) {
+        return get(recent, new Key(categoryNo, null, limit), loader);
+    }
+
+    private List<MediationProposalLog> get(Cache<Key, List<MediationProposalLog>> cache, Key key, Supplier<List<MediationProposalLog>> loader) {
+        return cache.get(key, k -> {
+            List<MediationProposalLog> loaded = loader.get();
+            return loaded == null ? List.of() : List.copyOf(loaded);
+        });
+    }
+
+    /**
+     * 카테고리 단위 무효화 (categoryNo 가 없으면 전체)
+     */
+    public void invalidateCategory(Long categoryNo) {
+        if (categoryNo == null) {
+            invalidateAll();
+            return;
+        }
+        log.debug("중재안 캐시 무효화 categoryNo={}", categoryNo);
+        for (Cache<Key, List<MediationProposalLog>> cache : List.of(similar, candidates, popular, recent)) {
+            cache.asMap().keySet().removeIf(key -> Objects.equals(key.categoryNo(), categoryNo));
+        }
+    }
+
+    public void invalidateAll() {
+        log.debug("중재안 캐시 전체 무효화");
+        similar.invalidateAll();
+        candidates.invalidateAll();
+        popular.invalidateAll();
+        recent.invalidateAll();
+    }
+
+}
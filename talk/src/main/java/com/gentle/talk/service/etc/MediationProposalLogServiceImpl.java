@@ -2,9 +2,12 @@ package com.gentle.talk.service.etc;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,13 +16,16 @@ import com.gentle.talk.domain.etc.MediationProposalLog;
 import com.gentle.talk.mapper.core.IssueMapper;
 import com.gentle.talk.mapper.etc.MediationProposalLogMapper;
 import com.gentle.talk.service.BaseServiceImpl;
+import com.gentle.talk.service.common.LlmClient;
+import com.gentle.talk.service.common.TextSimilarity;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -31,11 +37,28 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
     @Autowired
     private IssueMapper issueMapper; 
 
-    @Value("${openai.api-key:}")
-    private String apiKey;
+    @Autowired
+    private LlmClient llmClient;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TextSimilarity textSimilarity;
+
+    @Autowired
+    private MediationProposalLogCache cache;
+
+    @Autowired
+    private ReuseCountAccumulator reuseCountAccumulator;
 
-    @Value("${openai.model:gpt-4o-mini}")
-    private String model;
+    // 재사용으로 인정할 최소 유사도 (shingle Jaccard)
+    @Value("${mediation.similarity.threshold:0.8}")
+    private double similarityThreshold;
+
+    // 근사 중복 후보 최대 개수 (카테고리별)
+    @Value("${mediation.similarity.candidate-limit:20}")
+    private int candidateLimit;
 
     @Transactional
     @Override
@@ -53,6 +76,11 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
             if (entity.getConflictSituationHash() == null || entity.getConflictSituationHash().isEmpty()) {
                 entity.setConflictSituationHash(generateHash(entity.getConflictSituation()));
             }
+
+            // SimHash 생성 (근사 중복 검색용)
+            if (entity.getConflictSituationSimhash() == null) {
+                entity.setConflictSituationSimhash(textSimilarity.simHash(entity.getConflictSituation()));
+            }
             
             // 초기값 설정
             if (entity.getReuseCount() == null) entity.setReuseCount(0);
@@ -60,6 +88,11 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
             
             int result = mapper.insert(entity);
             log.info("중재안 로그 등록 결과 - result: {}", result);
+
+            // 캐시 조회 대상(is_from_api = 1)이 추가된 경우만 해당 카테고리 무효화
+            if (result > 0 && Boolean.TRUE.equals(entity.getIsFromApi())) {
+                evictCategory(entity.getCategoryNo());
+            }
             
             return result > 0;
         } catch (Exception e) {
@@ -73,7 +106,8 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         log.info("## 유사한 중재안 로그 검색 ##");
         log.info("categoryNo={}, hash={}, limit={}", categoryNo, conflictSituationHash, limit);
         
-        return mapper.findSimilarLogs(categoryNo, conflictSituationHash, limit);
+        return cache.similar(categoryNo, conflictSituationHash, limit,
+                () -> mapper.findSimilarLogs(categoryNo, conflictSituationHash, limit));
     }
 
     @Override
@@ -81,7 +115,7 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         log.info("## 인기 중재안 로그 조회 ##");
         log.info("categoryNo={}, limit={}", categoryNo, limit);
         
-        return mapper.findPopularLogs(categoryNo, limit);
+        return cache.popular(categoryNo, limit, () -> mapper.findPopularLogs(categoryNo, limit));
     }
 
     @Override
@@ -89,7 +123,7 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         log.info("## 최근 중재안 로그 조회 ##");
         log.info("categoryNo={}, limit={}", categoryNo, limit);
         
-        return mapper.findRecentLogs(categoryNo, limit);
+        return cache.recent(categoryNo, limit, () -> mapper.findRecentLogs(categoryNo, limit));
     }
 
     @Transactional
@@ -101,6 +135,10 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         try {
             int result = mapper.updateById(entity);
             log.info("중재안 로그 수정 결과 - result: {}", result);
+
+            if (result > 0) {
+                evictCategory(entity.getCategoryNo());
+            }
             
             return result > 0;
         } catch (Exception e) {
@@ -109,6 +147,44 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         }
     }
 
+    @Transactional
+    @Override
+    public boolean delete(Long no) {
+        MediationProposalLog target = mapper.selectById(no);
+        boolean result = super.delete(no);
+        if (result) {
+            evictCategory(target != null ? target.getCategoryNo() : null);
+        }
+        return result;
+    }
+
+    @Transactional
+    @Override
+    public boolean deleteById(String id) {
+        MediationProposalLog target = super.selectById(id);
+        boolean result = super.deleteById(id);
+        if (result) {
+            evictCategory(target != null ? target.getCategoryNo() : null);
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리 캐시 무효화
+     * - 즉시 한 번, 트랜잭션 중이면 커밋 후 한 번 더 (커밋 전 다른 요청이 옛 값을 다시 캐싱하는 경우 방지)
+     */
+    private void evictCategory(Long categoryNo) {
+        cache.invalidateCategory(categoryNo);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateCategory(categoryNo);
+                }
+            });
+        }
+    }
+
     @Transactional
     @Override
     public boolean incrementReuseCount(Long logNo) {
@@ -156,31 +232,56 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         log.info("## 중재안 캐시 조회 또는 생성 ##");
         log.info("categoryNo={}", categoryNo);
         
-        // 1. 해시값 생성
+        // 1. 해시값 / SimHash 생성
         String hash = generateHash(conflictSituation);
-        
-        // 2. 유사한 로그 검색
-        List<MediationProposalLog> similarLogs = findSimilarLogs(categoryNo, hash, 1);
-        
-        if (similarLogs != null && !similarLogs.isEmpty()) {
+        long simHash = textSimilarity.simHash(conflictSituation);
+
+        // 2. 근사 중복 로그 검색 (같은 카테고리, 유사도 임계값 이상)
+        MediationProposalLog existingLog = null;
+        double bestScore = 0.0;
+
+        int[] bands = new int[TextSimilarity.BAND_COUNT];
+        for (int i = 0; i < bands.length; i++) {
+            bands[i] = textSimilarity.band(simHash, i);
+        }
+
+        List<MediationProposalLog> candidates = cache.candidates(categoryNo, hash, candidateLimit,
+                () -> mapper.findNearDuplicateCandidates(categoryNo, hash, bands, candidateLimit));
+        if (candidates != null && !candidates.isEmpty()) {
+            Set<String> shingles = textSimilarity.shingles(conflictSituation);
+
+            for (MediationProposalLog candidate : candidates) {
+                double score = hash.equals(candidate.getConflictSituationHash())
+                        ? 1.0
+                        : textSimilarity.jaccard(shingles, textSimilarity.shingles(candidate.getConflictSituation()));
+
+                if (score > bestScore) {
+                    bestScore = score;
+                    existingLog = candidate;
+                }
+            }
+            log.info("근사 중복 후보 {}건, 최고 유사도 {} (임계값 {})", candidates.size(), bestScore, similarityThreshold);
+        }
+
+        if (existingLog != null && bestScore >= similarityThreshold) {
             // 3. 캐시 히트 - 기존 로그 재사용
-            MediationProposalLog existingLog = similarLogs.get(0);
-            log.info("캐시 히트! 기존 로그 재사용 - logNo: {}", existingLog.getNo());
+            log.info("캐시 히트! 기존 로그 재사용 - logNo: {}, similarity: {}", existingLog.getNo(), bestScore);
             
-            // 재사용 횟수 증가
-            incrementReuseCount(existingLog.getNo());
+            // 재사용 횟수 증가 (메모리 누적 → 주기적 일괄 반영)
+            reuseCountAccumulator.increment(existingLog.getNo());
             
             // 재사용 로그 생성 (원본 참조)
             MediationProposalLog reusedLog = new MediationProposalLog();
             reusedLog.setId(java.util.UUID.randomUUID().toString());
             reusedLog.setCategoryNo(categoryNo);
             reusedLog.setConflictSituationHash(hash);
+            reusedLog.setConflictSituationSimhash(simHash);
             reusedLog.setConflictSituation(conflictSituation);
             reusedLog.setRequirements(requirements);
             reusedLog.setMediationProposals(existingLog.getMediationProposals());
             reusedLog.setIsFromApi(false);
             reusedLog.setSourceLogNo(existingLog.getNo());
-            reusedLog.setSimilarityScore(1.0); // 동일 해시값이므로 100%
+            reusedLog.setSimilarityScore(Math.floor(bestScore * 10000) / 10000); // DECIMAL(5,4)
             
             register(reusedLog);
             
@@ -192,8 +293,12 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         }
     }
 
+    /**
+     * 이슈로부터 중재안 생성
+     * ⚠ @Transactional 을 걸지 않음 - OpenAI 호출 동안 DB 커넥션을 점유하지 않도록
+     *   1) 조회 → 2) AI 호출(트랜잭션 없음) → 3) 로그 INSERT + 이슈 UPDATE 를 짧은 트랜잭션으로 (version 검사)
+     */
     @Override
-    @Transactional
     public MediationProposalLog generateProposalsFromIssue(Long issueNo, Long categoryNo) {
         log.info("## AI - 중재안 생성 요청 (MediationProposalLog) ##");
         log.info("issueNo={}, categoryNo={}", issueNo, categoryNo);
@@ -274,7 +379,7 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
             );
 
             // 3) OpenAI 호출
-            String raw = callOpenAi(prompt).trim();
+            String raw = llmClient.chat(prompt).trim();
             log.info("### OpenAI 중재안 raw: {}", raw);
 
             // 3-1) ```json ``` 코드블럭 제거
@@ -308,13 +413,14 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
             String proposalsJson = mapper.writeValueAsString(node);
             log.info("### 최종 저장용 중재안 JSON(issues): {}", proposalsJson);
 
-            // 4) mediation_proposal_logs 에는 한 줄당 한 개씩 INSERT
+            // 4) mediation_proposal_logs 에는 한 줄당 한 개씩 (해시/SimHash 는 한 번만 계산)
             String hashSource   = conflictSituation != null ? conflictSituation : analysisResult;
             String conflictHash = generateHash(hashSource);
+            long conflictSimhash = textSimilarity.simHash(hashSource);
             log.info("생성된 해시값: {}", conflictHash);
 
             int sequence = 1;
-            MediationProposalLog firstLog = null;
+            List<MediationProposalLog> logEntities = new ArrayList<>();
 
             for (JsonNode item : node) {
                 if (item == null || item.isNull()) continue;
@@ -325,6 +431,7 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
                 logEntity.setId(java.util.UUID.randomUUID().toString());
                 logEntity.setCategoryNo(categoryNo);
                 logEntity.setConflictSituationHash(conflictHash);
+                logEntity.setConflictSituationSimhash(conflictSimhash);
                 logEntity.setConflictSituation(conflictSituation);
                 logEntity.setRequirements(requirements);
 
@@ -340,30 +447,39 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
                 logEntity.setIssueNo(issueNo);
                 logEntity.setSequence(sequence++);
 
-                log.info("## 중재안 로그 등록 ##");
-                log.info("entity={}", logEntity);
+                logEntities.add(logEntity);
+            }
+
+            if (logEntities.isEmpty()) {
+                throw new IllegalStateException("중재안 로그를 하나도 저장하지 못했습니다. issueNo=" + issueNo);
+            }
+
+            // 5) 로그 다중 행 INSERT 1회 + issues 테이블 전체 JSON 배열 저장을 하나의 짧은 트랜잭션으로
+            Long logCategoryNo = categoryNo;
+            transactionTemplate.executeWithoutResult(status -> {
+                log.info("## 중재안 로그 일괄 등록 ## count={}", logEntities.size());
 
-                boolean inserted = register(logEntity);
-                if (!inserted) {
-                    log.error("중재안 로그 등록 중 오류 발생 issueNo={}", issueNo);
+                int inserted = this.mapper.insertBatch(logEntities);
+                if (inserted != logEntities.size()) {
+                    log.error("중재안 로그 등록 중 오류 발생 issueNo={}, inserted={}", issueNo, inserted);
                     throw new IllegalStateException("중재안 로그 저장 실패 issueNo=" + issueNo);
                 }
 
-                if (firstLog == null) {
-                    firstLog = logEntity;
+                // JSON 배열 ["...", "...", "...", "..."]
+                int updated = issueMapper.updateMediationProposals(issueNo, proposalsJson, issue.getVersion());
+                if (updated == 0) {
+                    throw new OptimisticLockingFailureException("중재안 생성 중 이슈가 변경되었습니다. issueNo=" + issueNo);
                 }
-            }
 
-            if (firstLog == null) {
-                throw new IllegalStateException("중재안 로그를 하나도 저장하지 못했습니다. issueNo=" + issueNo);
-            }
-
-            // 5) issues 테이블에도 전체 JSON 배열 저장 + 상태 변경
-            issue.setMediationProposals(proposalsJson);   // JSON 배열 ["...", "...", "...", "..."]
-            issueMapper.updateById(issue);
+                evictCategory(logCategoryNo);
+            });
 
+            MediationProposalLog firstLog = logEntities.get(0);
             return firstLog;
 
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("중재안 저장 충돌 issueNo={} - {}", issueNo, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("AI 중재안 생성/로그 저장 중 오류 발생 issueNo={}", issueNo, e);
             throw new RuntimeException("AI 중재안 생성 실패: " + e.getMessage(), e);
@@ -394,52 +510,6 @@ public class MediationProposalLogServiceImpl extends BaseServiceImpl<MediationPr
         return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private String callOpenAi(String prompt) {
-
-        WebClient webClient = WebClient.builder()
-                .baseUrl("https://api.openai.com/v1/chat/completions")
-                .defaultHeader("Authorization", "Bearer " + apiKey)
-                .defaultHeader("Content-Type", "application/json")
-                .build();
-
-        Map<String, Object> requestBody = Map.of(
-                "model", model,
-                "messages", List.of(
-                        Map.of("role", "system", "content", "You are a helpful Korean counselor."),
-                        Map.of("role", "user", "content", prompt)
-                ),
-                "temperature", 0.3
-        );
-
-        log.info("### OpenAI 요청 바디: {}", requestBody);
-
-        Map<String, Object> response = webClient.post()
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        log.info("### OpenAI 응답: {}", response);
-
-        if (response == null || !response.containsKey("choices")) {
-            throw new IllegalStateException("OpenAI 응답이 비어있거나 choices가 없습니다.");
-        }
-
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-        if (choices == null || choices.isEmpty()) {
-            throw new IllegalStateException("OpenAI 응답 choices가 비어 있습니다.");
-        }
-
-        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-        if (message == null || message.get("content") == null) {
-            throw new IllegalStateException("OpenAI 응답에 message.content가 없습니다.");
-        }
-
-        String content = (String) message.get("content");
-        log.info("### OpenAI content: {}", content);
-        return content;
-    }
 
     
 }
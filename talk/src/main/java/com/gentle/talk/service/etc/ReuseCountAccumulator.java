@@ -0,0 +1,83 @@
+package com.gentle.talk.service.etc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gentle.talk.mapper.etc.MediationProposalLogMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 중재안 재사용 횟수 누적기
+ * - 캐시 히트마다 단일 행 UPDATE 를 하면 인기 중재안 행이 row lock 경합 지점이 됨
+ * - logNo 별로 메모리에 누적 → 주기적으로 다중 행 UPDATE 한 번으로 반영
+ * - 누적(merge)과 비우기(remove)는 모두 키 단위 원자 연산
+ *   → 꺼내 간 카운터 객체에 뒤늦게 더해져 증가분이 사라지는 일이 없음
+ * - 종료 시(@PreDestroy) 남은 값 모두 반영
+ * ⚠ 프로세스가 비정상 종료되면 마지막 flush 이후 누적분은 유실될 수 있음 (통계성 값)
+ */
+@Slf4j
+@Component
+public class ReuseCountAccumulator {
+
+    @Autowired
+    private MediationProposalLogMapper mapper;
+
+    private final Map<Long, Long> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 재사용 1회 누적
+     */
+    public void increment(Long logNo) {
+        if (logNo == null) return;
+        add(logNo, 1L);
+    }
+
+    /**
+     * 누적분 DB 반영 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${mediation.reuse-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (counters.isEmpty()) return;
+
+        // logNo 오름차순으로 정렬해 UPDATE 시 잠금 순서를 고정 (데드락 방지)
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Long logNo : counters.keySet()) {
+            // 꺼내면서 제거 → 이후 증가분은 새 항목으로 쌓여 다음 주기에 반영
+            Long delta = counters.remove(logNo);
+            if (delta != null && delta > 0) deltas.put(logNo, delta);
+        }
+        if (deltas.isEmpty()) return;
+
+        List<Map<String, Long>> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((logNo, delta) -> rows.add(Map.of("logNo", logNo, "delta", delta)));
+
+        try {
+            int result = mapper.addReuseCounts(rows);
+            log.info("## 재사용 횟수 일괄 반영 ## logs={}, result={}", rows.size(), result);
+        } catch (Exception e) {
+            // 실패 시 다음 주기에 다시 시도하도록 되돌림
+            log.error("재사용 횟수 일괄 반영 중 오류 발생 - 다음 주기에 재시도 logs={}", rows.size(), e);
+            deltas.forEach(this::add);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("## 종료 전 재사용 횟수 반영 ##");
+        flush();
+    }
+
+    private void add(Long logNo, long delta) {
+        counters.merge(logNo, delta, Long::sum);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.gentle.talk.service.users;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.gentle.talk.domain.users.RefreshToken;
+import com.gentle.talk.service.BaseService;
+
+public interface RefreshTokenService extends BaseService<RefreshToken> {
+
+    // 발급된 토큰 쌍
+    record Tokens(String accessToken, String refreshToken) {}
+
+    // 로그인 - 새 토큰 계열 시작
+    Tokens issue(UserDetails userDetails);
+
+    // 토큰 갱신 (rotation) - 사용된 토큰 재사용 시 계열 전체 폐기
+    Tokens rotate(String refreshToken);
+
+    // 로그아웃 - 토큰 계열 폐기
+    boolean revoke(String refreshToken);
+
+    // 회원의 모든 토큰 계열 폐기
+    int revokeAll(Long userNo);
+
+}
@@ -0,0 +1,136 @@
+package com.gentle.talk.service.users;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gentle.talk.domain.users.CustomUser;
+import com.gentle.talk.domain.users.RefreshToken;
+import com.gentle.talk.mapper.users.RefreshTokenMapper;
+import com.gentle.talk.security.jwt.JwtTokenProvider;
+import com.gentle.talk.security.jwt.TokenDenyList;
+import com.gentle.talk.service.BaseServiceImpl;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 (rotation + 계열 추적)
+ * ✅ 로그인마다 새 토큰 계열(familyId) 시작, 토큰마다 jti 를 refresh_tokens 에 저장
+ * ✅ 갱신 시 기존 토큰을 사용 처리하고 같은 계열로 새 토큰 발급 (1회용)
+ * ✅ 이미 사용된 토큰이 다시 오면 탈취로 보고 계열 전체 폐기 → TokenDenyList 에 등록
+ *    (같은 계열로 발급된 Access Token 도 JwtAuthenticationFilter 에서 거부됨)
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl extends BaseServiceImpl<RefreshToken, RefreshTokenMapper> implements RefreshTokenService {
+
+    @Autowired RefreshTokenMapper mapper;
+    @Autowired JwtTokenProvider jwtTokenProvider;
+    @Autowired TokenDenyList tokenDenyList;
+    @Autowired CustomDetailsService userDetailsService;
+
+    @Override
+    @Transactional
+    public Tokens issue(UserDetails userDetails) {
+        String familyId = UUID.randomUUID().toString();
+        return issueInFamily(userDetails, familyId);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Tokens rotate(String refreshToken) {
+        Claims claims = jwtTokenProvider.parseValidClaims(refreshToken);
+        if (claims == null || !JwtTokenProvider.TYPE_REFRESH.equals(claims.get(JwtTokenProvider.CLAIM_TYPE))
+                || claims.getId() == null) {
+            throw new BadCredentialsException("Refresh Token이 만료되었거나 유효하지 않습니다.");
+        }
+
+        // 1. 사용 처리 (동시 요청 중 한 건만 성공)
+        if (mapper.markUsed(claims.getId()) == 0) {
+            RefreshToken stored = mapper.selectByTokenId(claims.getId());
+            if (stored != null && stored.getUsedAt() != null && stored.getRevokedAt() == null) {
+                // 이미 사용된 토큰 재사용 → 계열 전체 폐기
+                log.warn("리프레시 토큰 재사용 감지 - 계열 폐기 username={}, familyId={}", stored.getUsername(), stored.getFamilyId());
+                revokeFamily(stored.getFamilyId());
+            }
+            throw new BadCredentialsException("Refresh Token이 만료되었거나 유효하지 않습니다.");
+        }
+
+        // 2. 회원 상태 확인 (DB)
+        String familyId = claims.get(JwtTokenProvider.CLAIM_FAMILY, String.class);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        if (!userDetails.isEnabled()) {
+            revokeFamily(familyId);
+            throw new DisabledException("비활성화된 계정입니다.");
+        }
+
+        // 3. 같은 계열로 새 토큰 발급
+        return issueInFamily(userDetails, familyId);
+    }
+
+    @Override
+    public boolean revoke(String refreshToken) {
+        Claims claims = jwtTokenProvider.parseValidClaims(refreshToken);
+        if (claims == null) return false;
+
+        String familyId = claims.get(JwtTokenProvider.CLAIM_FAMILY, String.class);
+        if (familyId == null) return false;
+        revokeFamily(familyId);
+        return true;
+    }
+
+    @Override
+    public int revokeAll(Long userNo) {
+        if (userNo == null) return 0;
+        List<String> families = mapper.selectActiveFamilies(userNo);
+        int result = mapper.revokeByUserNo(userNo);
+        families.forEach(tokenDenyList::revoke);
+        log.info("회원 토큰 계열 전체 폐기 - userNo={}, families={}", userNo, families.size());
+        return result;
+    }
+
+    /**
+     * 만료된 토큰 정리 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${security.refresh-token.cleanup-interval-ms:3600000}",
+               initialDelayString = "${security.refresh-token.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        int result = mapper.deleteExpired(1);
+        if (result > 0) {
+            log.info("## 만료된 리프레시 토큰 정리 ## deleted={}", result);
+        }
+    }
+
+    private Tokens issueInFamily(UserDetails userDetails, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+
+        RefreshToken token = new RefreshToken();
+        token.setId(tokenId);
+        token.setFamilyId(familyId);
+        token.setUserNo(((CustomUser) userDetails).getUser().getNo());
+        token.setUsername(userDetails.getUsername());
+        token.setExpiresAt(new Date(System.currentTimeMillis() + jwtTokenProvider.getRefreshExpiration()));
+        mapper.insert(token);
+
+        return new Tokens(
+                jwtTokenProvider.generateAccessToken(userDetails, familyId),
+                jwtTokenProvider.generateRefreshToken(userDetails, familyId, tokenId));
+    }
+
+    private void revokeFamily(String familyId) {
+        if (familyId == null) return;
+        mapper.revokeFamily(familyId);
+        tokenDenyList.revoke(familyId);
+    }
+
+}
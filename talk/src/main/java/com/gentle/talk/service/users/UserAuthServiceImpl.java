@@ -1,5 +1,6 @@
 package com.gentle.talk.service.users;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import com.gentle.talk.domain.users.UserAuth;
 import com.gentle.talk.mapper.users.UserAuthMapper;
@@ -10,4 +11,52 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class UserAuthServiceImpl extends BaseServiceImpl<UserAuth, UserAuthMapper> implements UserAuthService {
 
+    @Autowired UserDetailsCache userDetailsCache;
+
+    // 권한 변경 시 인증 캐시 무효화
+
+    @Override
+    public boolean insert(UserAuth entity) {
+        boolean result = super.insert(entity);
+        if (result) evict(entity);
+        return result;
+    }
+
+    @Override
+    public boolean update(UserAuth entity) {
+        boolean result = super.update(entity);
+        if (result) evict(entity);
+        return result;
+    }
+
+    @Override
+    public boolean updateById(UserAuth entity) {
+        boolean result = super.updateById(entity);
+        if (result) evict(entity);
+        return result;
+    }
+
+    @Override
+    public boolean delete(Long no) {
+        boolean result = super.delete(no);
+        if (result) userDetailsCache.invalidateAll();
+        return result;
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        boolean result = super.deleteById(id);
+        if (result) userDetailsCache.invalidateAll();
+        return result;
+    }
+
+    private void evict(UserAuth entity) {
+        if (entity.getUsername() == null && entity.getUserNo() == null) {
+            userDetailsCache.invalidateAll();
+            return;
+        }
+        userDetailsCache.invalidate(entity.getUsername());
+        userDetailsCache.invalidateUser(entity.getUserNo());
+    }
+
 }
@@ -0,0 +1,79 @@
+package com.gentle.talk.service.users;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gentle.talk.domain.users.CustomUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🍃 JWT 인증용 UserDetails 캐시 (Caffeine, 프로세스 내)
+ * - 키 : username
+ * - JwtAuthenticationFilter 가 요청마다 회원 + 권한 목록을 DB 에서 다시 읽지 않도록 함
+ * - 비밀번호 변경, 권한 변경, 활성화 여부 변경, 삭제 시 해당 회원만 무효화
+ * ⚠ 로그인(비밀번호 확인)은 캐시를 거치지 않음
+ * ⚠ 다른 인스턴스에서 발생한 변경은 ttl-seconds 이내에 반영됨
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(CustomDetailsService userDetailsService, MeterRegistry meterRegistry,
+                            @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${security.user-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.user-details");
+    }
+
+    /**
+     * 캐시 조회, 없으면 DB 에서 조회 후 저장
+     * ⚠ 회원이 없으면 UsernameNotFoundException (캐시하지 않음)
+     */
+    public UserDetails get(String username) {
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    /**
+     * username 단위 무효화
+     */
+    public void invalidate(String username) {
+        if (username == null) return;
+        log.debug("UserDetails 캐시 무효화 username={}", username);
+        cache.invalidate(username);
+    }
+
+    /**
+     * 회원 번호 단위 무효화 (username 을 모르는 수정/삭제 경로)
+     */
+    public void invalidateUser(Long userNo) {
+        if (userNo == null) return;
+        log.debug("UserDetails 캐시 무효화 userNo={}", userNo);
+        cache.asMap().values().removeIf(details ->
+                details instanceof CustomUser customUser
+                        && Objects.equals(customUser.getUser().getNo(), userNo));
+    }
+
+    public void invalidateAll() {
+        log.debug("UserDetails 캐시 전체 무효화");
+        cache.invalidateAll();
+    }
+
+}
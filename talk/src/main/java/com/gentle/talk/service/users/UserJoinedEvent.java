@@ -0,0 +1,7 @@
+package com.gentle.talk.service.users;
+
+/**
+ * 🍃 회원가입 완료 이벤트
+ * - UserService.join 트랜잭션 안에서 발행, 수신 측은 커밋 이후에 처리 (@TransactionalEventListener)
+ */
+public record UserJoinedEvent(Long userNo, String username, String tel) {}
@@ -1,6 +1,7 @@
 package com.gentle.talk.service.users;
 
 import com.github.pagehelper.PageInfo;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 import com.gentle.talk.domain.users.Users;
 import com.gentle.talk.service.BaseService;
@@ -16,6 +17,9 @@ public interface UserService extends BaseService<Users> {
     // 페이징 조회
     PageInfo<Users> page(QueryParams queryParams);
 
+    // 커서(keyset) 페이징 조회
+    CursorPage<Users> cursorPage(QueryParams queryParams);
+
     // 회원정보 수정
     boolean update(Users entity);                                     // 수정
     boolean updateById(Users entity);
@@ -1,11 +1,13 @@
 package com.gentle.talk.service.users;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.gentle.talk.domain.common.CursorPage;
 import com.gentle.talk.domain.common.QueryParams;
 import com.gentle.talk.domain.users.UserAuth;
 import com.gentle.talk.domain.users.Users;
@@ -13,6 +15,7 @@ import com.gentle.talk.mapper.users.UserAuthMapper;
 import com.gentle.talk.mapper.users.UserMapper;
 import com.gentle.talk.service.BaseServiceImpl;
 import com.gentle.talk.service.common.EmailService;
+import com.gentle.talk.service.common.StatisticsService;
 import com.github.pagehelper.PageHelper;
 import com.github.pagehelper.PageInfo;
 
@@ -26,6 +29,10 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
     @Autowired UserAuthMapper userAuthMapper;
     @Autowired PasswordEncoder passwordEncoder;
     @Autowired EmailService emailService;
+    @Autowired StatisticsService statisticsService;
+    @Autowired UserDetailsCache userDetailsCache;
+    @Autowired RefreshTokenService refreshTokenService;
+    @Autowired ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -52,6 +59,10 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
             userAuth.setAuth("ROLE_USER");
             userAuthMapper.insert(userAuth);
             log.info("회원가입 성공: {}", entity.getUsername());
+            statisticsService.userCreated(entity.getEnabled());
+
+            // 상대방 이슈 연결 등 후속 처리는 커밋 이후 비동기로 (OpponentIssueLinker)
+            eventPublisher.publishEvent(new UserJoinedEvent(entity.getNo(), entity.getUsername(), entity.getTel()));
             return true;
         } catch (Exception e) {
             log.error("회원가입 실패: {}", e.getMessage());
@@ -82,13 +93,19 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
 
     @Override
     public PageInfo<Users> page(QueryParams queryParams) {
-        // 페이지 시작 
-        PageHelper.startPage(queryParams.getPage(), queryParams.getSize());
+        // 페이지 시작 (withCount=false 이면 COUNT 생략)
+        startOffsetPage(queryParams);
         
         // 검색 및 정렬 조건을 포함하여 데이터 조회
         return new PageInfo<>(mapper.listWithParams(queryParams));
     }
 
+    @Override
+    public CursorPage<Users> cursorPage(QueryParams queryParams) {
+        // 커서(keyset) 페이징 - (created_at, no) 기준
+        return keysetPage(queryParams, mapper::listWithParams);
+    }
+
     @Override
     public boolean update(Users entity) {
         log.info("## 회원정보 수정 ##");
@@ -102,6 +119,7 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
         try {
             int result = mapper.updateById(entity);
             if (result > 0) {
+                evictUserDetails(entity);
                 log.info("회원정보 수정 성공: {}", entity.getUsername());
                 return true;
             } else {
@@ -123,9 +141,11 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
         boolean confirmPasswordProvided = entity.getConfirmPassword() != null && !entity.getConfirmPassword().isEmpty();
         QueryWrapper<Users> queryWrapper = new QueryWrapper<>();
         queryWrapper.eq("id", entity.getId());
+        boolean passwordChanged = false;
         // 비밀번호 암호화
         if( !newPasswordProvided && !confirmPasswordProvided ) {
-            log.info("비밀번호 변경 없음: {}", entity.getUsername());
+            passwordChanged = encodeChangedPassword(entity, queryWrapper);
+            if (!passwordChanged) log.info("비밀번호 변경 없음: {}", entity.getUsername());
         } else {
             log.info("비밀번호 변경: {}", entity.getUsername());
 
@@ -141,12 +161,16 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
             }
             String encodedPassword = passwordEncoder.encode(entity.getNewPassword());
             entity.setPassword(encodedPassword);
+            passwordChanged = true;
         }
         // 회원정보 수정
         try {
             
             int result = mapper.update(entity, queryWrapper);
             if (result > 0) {
+                evictUserDetails(entity);
+                // 비밀번호 변경 시 기존 로그인(리프레시 토큰 계열) 모두 폐기
+                if (passwordChanged) refreshTokenService.revokeAll(existingUserNo(entity));
                 log.info("회원정보 수정 성공: {}", entity.getUsername());
                 return true;
             } else {
@@ -220,6 +244,8 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
             
             int result = mapper.updateById(user);
             if (result > 0) {
+                userDetailsCache.invalidate(username);
+                refreshTokenService.revokeAll(user.getNo());
                 log.info("임시 비밀번호 설정 성공: {}", username);
                 
                 // 이메일 발송 (실제 구현에서는 EmailService 사용)
@@ -236,6 +262,57 @@ public class UserServiceImpl extends BaseServiceImpl<Users, UserMapper> implemen
         }
     }
     
+    @Override
+    public boolean delete(Long no) {
+        boolean result = super.delete(no);
+        if (result) userDetailsCache.invalidateUser(no);
+        return result;
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        Users target = super.selectById(id);
+        boolean result = super.deleteById(id);
+        if (result && target != null) userDetailsCache.invalidate(target.getUsername());
+        return result;
+    }
+
+    /**
+     * password 에 새 비밀번호(평문)가 들어온 경우 암호화
+     * - 비밀번호 변경 / 관리자 재설정 / 내 정보 수정은 newPassword 가 아닌 password 에 새 값을 담아 호출
+     * - 저장된 값(암호화된 비밀번호)과 같으면 변경 없음
+     * @return 비밀번호 변경 여부
+     */
+    private boolean encodeChangedPassword(Users entity, QueryWrapper<Users> queryWrapper) {
+        String password = entity.getPassword();
+        if (password == null || password.isEmpty()) return false;
+
+        Users existingUser = mapper.selectOne(queryWrapper);
+        if (existingUser == null || password.equals(existingUser.getPassword())) return false;
+
+        log.info("비밀번호 변경: {}", entity.getUsername());
+        entity.setPassword(passwordEncoder.encode(password));
+        return true;
+    }
+
+    /**
+     * 회원 번호 (수정 요청에 no 가 없으면 id 로 조회)
+     */
+    private Long existingUserNo(Users entity) {
+        if (entity.getNo() != null) return entity.getNo();
+        Users existing = super.selectById(entity.getId());
+        return existing != null ? existing.getNo() : null;
+    }
+
+    /**
+     * 인증 캐시 무효화 (비밀번호/활성화 여부 등 변경 후)
+     * - 수정 요청에 username 이 없을 수 있어 회원 번호로도 무효화
+     */
+    private void evictUserDetails(Users entity) {
+        userDetailsCache.invalidate(entity.getUsername());
+        userDetailsCache.invalidateUser(entity.getNo());
+    }
+
     /**
      * 8자리 임시 비밀번호 생성
      * @return 임시 비밀번호
@@ -0,0 +1,7 @@
+-- V10 : 내가 참여한 이슈 목록 (발신 + 수신) 용 인덱스
+-- * selectMyIssues 의 UNION ALL 각 갈래가 인덱스만으로 (created_at DESC, no DESC) 순서대로 LIMIT 건 조회
+-- * InnoDB 보조 인덱스에는 PK(no) 가 포함되므로 (user_no, created_at, no) 순서로 정렬됨
+
+ALTER TABLE `issues`
+	ADD INDEX `idx_user_no_created_at` (`user_no`, `created_at`),
+	ADD INDEX `idx_opponent_user_no_created_at` (`opponent_user_no`, `created_at`);
@@ -0,0 +1,22 @@
+-- V11 : 자주 실행되는 조회 조건 인덱스
+-- * 이미 있는 인덱스 (V1)
+--   - issues.issue_code : UNIQUE
+--   - mediation_proposal_logs (category_no, conflict_situation_hash) : idx_category_hash
+-- * 실행 계획 회귀 테스트 : src/test/java/com/gentle/talk/mapper/MapperExplainPlanTests.java
+
+-- 회원가입 후 상대방 이슈 연결 (opponent_contact = ? AND opponent_user_no 미지정)
+ALTER TABLE `issues`
+	ADD INDEX `idx_opponent_contact` (`opponent_contact`, `opponent_user_no`);
+
+-- 협상가별 상태 집계 / 진행 중인 협상 (user_no = ? AND status ...)
+ALTER TABLE `negotiations`
+	ADD INDEX `idx_user_no_status_created_at` (`user_no`, `status`, `created_at`);
+
+-- 전화번호로 상대방 찾기 / 이름 + 이메일로 아이디 찾기
+ALTER TABLE `users`
+	ADD INDEX `idx_tel` (`tel`),
+	ADD INDEX `idx_email` (`email`);
+
+-- 로그인 시 권한 조회 (username = ?)
+ALTER TABLE `user_auth`
+	ADD INDEX `idx_username` (`username`);
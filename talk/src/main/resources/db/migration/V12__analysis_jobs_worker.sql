@@ -0,0 +1,6 @@
+-- V12 : 분석 작업 실행 서버 기록
+-- * 서버 시작 시 이 서버가 실행하던 분석중 작업을 경과 시간과 관계없이 대기로 되돌리기 위함
+-- * 다른 서버가 실행하던 작업은 주기적으로 오래된(stale) 것만 되돌림
+
+ALTER TABLE `analysis_jobs`
+	ADD COLUMN `worker_id` VARCHAR(100) NULL COMMENT '실행 서버 ID' AFTER `attempts`;
@@ -0,0 +1,32 @@
+-- V13 : 근사 중복 검색 밴드 변경 (SimHash 16bit 밴드 4개 → 8bit 밴드 8개)
+-- * 16bit 밴드 4개는 해밍거리 3 이하만 보장 → 유사도 임계값(0.8) 근처 중복 대부분이 후보에서 빠짐
+-- * 8bit 밴드 8개는 해밍거리 7 이하를 보장, 그 이상도 대부분 한 밴드는 일치
+-- * 생성 컬럼이므로 기존 행은 conflict_situation_simhash 로 다시 계산됨
+
+ALTER TABLE `mediation_proposal_logs`
+	DROP INDEX `idx_category_simhash_b0`,
+	DROP INDEX `idx_category_simhash_b1`,
+	DROP INDEX `idx_category_simhash_b2`,
+	DROP INDEX `idx_category_simhash_b3`,
+	DROP COLUMN `simhash_b0`,
+	DROP COLUMN `simhash_b1`,
+	DROP COLUMN `simhash_b2`,
+	DROP COLUMN `simhash_b3`;
+
+ALTER TABLE `mediation_proposal_logs`
+	ADD COLUMN `simhash_b0` TINYINT UNSIGNED AS (`conflict_situation_simhash` & 0xFF) STORED COMMENT 'SimHash 밴드 0' AFTER `conflict_situation_simhash`,
+	ADD COLUMN `simhash_b1` TINYINT UNSIGNED AS ((`conflict_situation_simhash` >> 8) & 0xFF) STORED COMMENT 'SimHash 밴드 1' AFTER `simhash_b0`,
+	ADD COLUMN `simhash_b2` TINYINT UNSIGNED AS ((`conflict_situation_simhash` >> 16) & 0xFF) STORED COMMENT 'SimHash 밴드 2' AFTER `simhash_b1`,
+	ADD COLUMN `simhash_b3` TINYINT UNSIGNED AS ((`conflict_situation_simhash` >> 24) & 0xFF) STORED COMMENT 'SimHash 밴드 3' AFTER `simhash_b2`,
+	ADD COLUMN `simhash_b4` TINYINT UNSIGNED AS ((`conflict_situation_simhash` >> 32) & 0xFF) STORED COMMENT 'SimHash 밴드 4' AFTER `simhash_b3`,
+	ADD COLUMN `simhash_b5` TINYINT UNSIGNED AS ((`conflict_situation_simhash` >> 40) & 0xFF) STORED COMMENT 'SimHash 밴드 5' AFTER `simhash_b4`,
+	ADD COLUMN `simhash_b6` TINYINT UNSIGNED AS ((`conflict_situation_simhash` >> 48) & 0xFF) STORED COMMENT 'SimHash 밴드 6' AFTER `simhash_b5`,
+	ADD COLUMN `simhash_b7` TINYINT UNSIGNED AS ((`conflict_situation_simhash` >> 56) & 0xFF) STORED COMMENT 'SimHash 밴드 7' AFTER `simhash_b6`,
+	ADD INDEX `idx_category_simhash_b0` (`category_no`, `simhash_b0`),
+	ADD INDEX `idx_category_simhash_b1` (`category_no`, `simhash_b1`),
+	ADD INDEX `idx_category_simhash_b2` (`category_no`, `simhash_b2`),
+	ADD INDEX `idx_category_simhash_b3` (`category_no`, `simhash_b3`),
+	ADD INDEX `idx_category_simhash_b4` (`category_no`, `simhash_b4`),
+	ADD INDEX `idx_category_simhash_b5` (`category_no`, `simhash_b5`),
+	ADD INDEX `idx_category_simhash_b6` (`category_no`, `simhash_b6`),
+	ADD INDEX `idx_category_simhash_b7` (`category_no`, `simhash_b7`);
@@ -0,0 +1,4 @@
+-- V2 : 이슈 낙관적 락 버전 (AI 호출을 트랜잭션 밖에서 수행 후 버전 비교로 저장)
+
+ALTER TABLE `issues`
+	ADD COLUMN `version` INT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전' AFTER `status`;
@@ -0,0 +1,19 @@
+-- V3 : 이슈 분석 작업 (비동기)
+-- * POST /api/v1/issues/{no}/analyze?async=true 로 등록
+-- * 상태 (대기, 분석중, 분석완료, 분석실패)
+
+CREATE TABLE `analysis_jobs` (
+	`no` BIGINT NOT NULL AUTO_INCREMENT COMMENT 'PK',
+	`id` VARCHAR(64) NOT NULL UNIQUE COMMENT 'UK (작업 ID)',
+	`issue_no` BIGINT NOT NULL COMMENT 'FK',
+	`status` VARCHAR(20) NOT NULL DEFAULT '대기' COMMENT '상태 (대기, 분석중, 분석완료, 분석실패)',
+	`error_message` TEXT COMMENT '실패 사유',
+	`attempts` INT NOT NULL DEFAULT 0 COMMENT '실행 횟수',
+	`started_at` TIMESTAMP NULL COMMENT '시작일시',
+	`finished_at` TIMESTAMP NULL COMMENT '종료일시',
+	`created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일자',
+	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
+	PRIMARY KEY (`no`),
+	FOREIGN KEY (`issue_no`) REFERENCES `issues` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
+	INDEX `idx_status_created_at` (`status`, `created_at`)
+) COMMENT '이슈 분석 작업';
@@ -0,0 +1,12 @@
+-- V4 : 중재안 로그 근사 중복 검색 (SimHash 16bit 밴드 4개)
+
+ALTER TABLE `mediation_proposal_logs`
+	ADD COLUMN `conflict_situation_simhash` BIGINT COMMENT '갈등상황 SimHash (근사 중복 검색용)' AFTER `conflict_situation_hash`,
+	ADD COLUMN `simhash_b0` SMALLINT UNSIGNED AS (`conflict_situation_simhash` & 0xFFFF) STORED COMMENT 'SimHash 밴드 0' AFTER `conflict_situation_simhash`,
+	ADD COLUMN `simhash_b1` SMALLINT UNSIGNED AS ((`conflict_situation_simhash` >> 16) & 0xFFFF) STORED COMMENT 'SimHash 밴드 1' AFTER `simhash_b0`,
+	ADD COLUMN `simhash_b2` SMALLINT UNSIGNED AS ((`conflict_situation_simhash` >> 32) & 0xFFFF) STORED COMMENT 'SimHash 밴드 2' AFTER `simhash_b1`,
+	ADD COLUMN `simhash_b3` SMALLINT UNSIGNED AS ((`conflict_situation_simhash` >> 48) & 0xFFFF) STORED COMMENT 'SimHash 밴드 3' AFTER `simhash_b2`,
+	ADD INDEX `idx_category_simhash_b0` (`category_no`, `simhash_b0`),
+	ADD INDEX `idx_category_simhash_b1` (`category_no`, `simhash_b1`),
+	ADD INDEX `idx_category_simhash_b2` (`category_no`, `simhash_b2`),
+	ADD INDEX `idx_category_simhash_b3` (`category_no`, `simhash_b3`);
@@ -0,0 +1,4 @@
+-- V5 : 이슈 검색 FULLTEXT (ngram)
+
+ALTER TABLE `issues`
+	ADD FULLTEXT INDEX `ft_issues_search` (`conflict_situation`, `requirements`, `opponent_name`) WITH PARSER ngram;
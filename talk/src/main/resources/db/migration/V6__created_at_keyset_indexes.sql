@@ -0,0 +1,5 @@
+-- V6 : 커서(keyset) 페이징용 (created_at, no) 인덱스
+
+ALTER TABLE `users` ADD INDEX `idx_created_at_no` (`created_at`, `no`);
+ALTER TABLE `issues` ADD INDEX `idx_created_at_no` (`created_at`, `no`);
+ALTER TABLE `negotiations` ADD INDEX `idx_created_at_no` (`created_at`, `no`);
@@ -0,0 +1,22 @@
+-- V7 : 리프레시 토큰
+-- * id = 토큰 jti, family_id = 로그인 1회로 시작되는 토큰 계열
+-- * 갱신(rotation) 시 기존 토큰은 used_at 기록, 같은 계열로 새 토큰 발급
+-- * 사용된 토큰이 다시 제시되면(재사용) 계열 전체를 revoked_at 처리
+
+CREATE TABLE `refresh_tokens` (
+	`no` BIGINT NOT NULL AUTO_INCREMENT COMMENT 'PK',
+	`id` VARCHAR(64) NOT NULL UNIQUE COMMENT 'UK (jti)',
+	`family_id` VARCHAR(64) NOT NULL COMMENT '토큰 계열 ID',
+	`user_no` BIGINT NOT NULL COMMENT 'FK',
+	`username` VARCHAR(100) NOT NULL COMMENT '아이디',
+	`expires_at` TIMESTAMP NOT NULL COMMENT '만료일시',
+	`used_at` TIMESTAMP NULL COMMENT '갱신에 사용된 일시',
+	`revoked_at` TIMESTAMP NULL COMMENT '폐기일시',
+	`created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '등록일자',
+	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
+	PRIMARY KEY (`no`),
+	FOREIGN KEY (`user_no`) REFERENCES `users` (`no`) ON DELETE CASCADE ON UPDATE CASCADE,
+	INDEX `idx_family_id` (`family_id`),
+	INDEX `idx_revoked_at` (`revoked_at`),
+	INDEX `idx_expires_at` (`expires_at`)
+) COMMENT '리프레시 토큰';
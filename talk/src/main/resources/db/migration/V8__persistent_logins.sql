@@ -0,0 +1,11 @@
+-- V8 : 자동 로그인 (Spring Security remember-me)
+-- * 기존에는 기동 시 JdbcTokenRepositoryImpl.CREATE_TABLE_SQL 로 생성 → 이미 있을 수 있음
+
+CREATE TABLE IF NOT EXISTS `persistent_logins` (
+	`username` VARCHAR(64) NOT NULL COMMENT '아이디',
+	`series` VARCHAR(64) NOT NULL COMMENT '시리즈',
+	`token` VARCHAR(64) NOT NULL COMMENT '토큰',
+	`last_used` TIMESTAMP NOT NULL COMMENT '마지막 사용일시',
+	PRIMARY KEY (`series`),
+	INDEX `idx_username` (`username`)
+) COMMENT '자동 로그인';
@@ -0,0 +1,12 @@
+-- V9 : 번호 블록 임대용 시퀀스
+-- * 서버마다 블록(예: 100개) 단위로 번호를 가져가 메모리에서 발급
+-- * issue_code : 이슈 코드 (번호 → 키 기반 순열 → 6자리 base-36)
+
+CREATE TABLE `id_sequences` (
+	`name` VARCHAR(64) NOT NULL COMMENT '시퀀스 이름',
+	`next_value` BIGINT NOT NULL DEFAULT 0 COMMENT '다음에 임대할 번호',
+	`updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일자',
+	PRIMARY KEY (`name`)
+) COMMENT '번호 블록 시퀀스';
+
+INSERT INTO `id_sequences` (`name`, `next_value`) VALUES ('issue_code', 0);
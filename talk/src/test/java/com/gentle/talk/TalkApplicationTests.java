@@ -3,7 +3,7 @@ package com.gentle.talk;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "issue.code.secret=test-issue-code-secret-0123456789abcdef")
 class TalkApplicationTests {
 
 	@Test
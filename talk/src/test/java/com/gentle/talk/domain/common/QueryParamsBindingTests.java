@@ -0,0 +1,47 @@
+package com.gentle.talk.domain.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.web.bind.WebDataBinder;
+
+/**
+ * QueryParams 요청 파라미터 바인딩 테스트
+ * - 커서 모드 조회 조건(keyset)은 요청 파라미터로 설정할 수 없어야 함
+ */
+class QueryParamsBindingTests {
+
+    @Test
+    void keysetIsNotBoundFromRequestParameters() {
+        QueryParams queryParams = new QueryParams();
+        MutablePropertyValues values = new MutablePropertyValues();
+        values.add("size", "5");
+        values.add("cursorLimit", "100000");
+        values.add("keyset", "x");
+        values.add("keyset.limit", "100000");
+        values.add("keyset.no", "1");
+
+        WebDataBinder binder = new WebDataBinder(queryParams);
+        binder.bind(values);
+
+        assertThat(binder.getBindingResult().hasErrors()).isFalse();
+        assertThat(queryParams.getSize()).isEqualTo(5);
+        assertThat(queryParams.activeKeyset()).isNull();
+    }
+
+    @Test
+    void applyCursorSetsKeysetAndClearKeysetRemovesIt() {
+        QueryParams queryParams = new QueryParams();
+        queryParams.setCursor(CursorPage.encodeCursor(new java.util.Date(1_000L), 7L));
+
+        CursorPage.applyCursor(queryParams, 11);
+        assertThat(queryParams.activeKeyset().no()).isEqualTo(7L);
+        assertThat(queryParams.activeKeyset().createdAt().getTime()).isEqualTo(1_000L);
+        assertThat(queryParams.activeKeyset().limit()).isEqualTo(11);
+
+        queryParams.clearKeyset();
+        assertThat(queryParams.activeKeyset()).isNull();
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.gentle.talk.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gentle.talk.domain.common.Keyset;
+
+/**
+ * 매퍼 실행 계획(EXPLAIN) 회귀 테스트
+ * - MySQL 컨테이너에 Flyway 마이그레이션 적용 + 데이터 생성 (sql/explain-plan-seed.sql)
+ * - XML 매퍼의 모든 SELECT / UPDATE / DELETE 문을 예시 파라미터로 EXPLAIN
+ *   → 문법/컬럼 오류가 있으면 실패
+ * - HOT_STATEMENTS 는 전체 스캔(type=ALL)이 하나라도 있으면 실패
+ * ⚠ Docker 가 없으면 건너뜀
+ */
+@MybatisTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MapperExplainPlanTests {
+
+    private static final Logger log = LoggerFactory.getLogger(MapperExplainPlanTests.class);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    /**
+     * 자주 실행되는 문 (매퍼 이름.문 ID) - 전체 스캔 금지
+     */
+    private static final Set<String> HOT_STATEMENTS = Set.of(
+            "IssueMapper.selectByIssueCode",
+            "IssueMapper.selectByUserNo",
+            "IssueMapper.selectByOpponentUserNo",
+            "IssueMapper.selectMyIssues",
+            "IssueMapper.selectByIssueNo",
+            "IssueMapper.countByStatus",
+            "IssueMapper.linkOpponentUserNo",
+            "IssueMapper.compareAndSetStatus",
+            "IssueMapper.updateSelectedProposal",
+            "IssueMapper.updateFlag",
+            "IssueMapper.markAnalyzing",
+            "IssueMapper.updateAnalysisResult",
+            "IssueMapper.updateMediationProposals",
+            "NegotiationMapper.selectByIssueNo",
+            "NegotiationMapper.selectByUserNo",
+            "NegotiationMapper.countByStatus",
+            "NegotiationMapper.selectOngoingNegotiations",
+            "NegotiationMapper.compareAndSetStatus",
+            "MediationProposalLogMapper.findSimilarLogs",
+            "MediationProposalLogMapper.findNearDuplicateCandidates",
+            "MediationProposalLogMapper.findPopularLogs",
+            "MediationProposalLogMapper.incrementReuseCount",
+            "MediationProposalLogMapper.addReuseCounts",
+            "UserMapper.selectByUsername",
+            "UserMapper.selectAuthList",
+            "UserMapper.findByPhone",
+            "UserMapper.findByNameAndEmail",
+            "RefreshTokenMapper.selectByTokenId",
+            "RefreshTokenMapper.markUsed",
+            "RefreshTokenMapper.revokeFamily",
+            "RefreshTokenMapper.revokeByUserNo",
+            "RefreshTokenMapper.selectActiveFamilies",
+            "RefreshTokenMapper.existsRevokedFamily",
+            "AnalysisJobMapper.selectByJobId",
+            "AnalysisJobMapper.claim",
+            "AnalysisJobMapper.resetOwned",
+            "AnalysisJobMapper.finish",
+            "AnalysisJobMapper.selectWaiting",
+            "IdSequenceMapper.lease"
+    );
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @TestFactory
+    Stream<DynamicTest> explainMapperStatements() {
+        new ResourceDatabasePopulator(new ClassPathResource("sql/explain-plan-seed.sql")).execute(dataSource);
+
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        List<MappedStatement> statements = configuration.getMappedStatementNames().stream()
+                .filter(name -> name.startsWith("com.gentle.talk.mapper.") && !name.endsWith("!selectKey"))
+                .distinct()
+                .map(configuration::getMappedStatement)
+                .filter(ms -> ms.getResource() != null && ms.getResource().contains(".xml"))
+                .filter(ms -> ms.getSqlCommandType() != SqlCommandType.INSERT)
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .toList();
+
+        // 이름이 바뀐 문이 목록에서 조용히 빠지지 않도록
+        List<String> loaded = statements.stream().map(MapperExplainPlanTests::shortId).toList();
+        assertThat(loaded).containsAll(HOT_STATEMENTS);
+
+        return statements.stream().map(ms -> DynamicTest.dynamicTest(shortId(ms), () -> explain(ms)));
+    }
+
+    private void explain(MappedStatement ms) throws Exception {
+        SampleParams params = new SampleParams();
+        BoundSql boundSql = ms.getBoundSql(params);
+
+        List<String> fullScans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(ms, params, boundSql).setParameters(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    String type = rs.getString("type");
+                    log.info("{} - table={}, type={}, key={}, rows={}, extra={}",
+                            shortId(ms), table, type, rs.getString("key"), rs.getString("rows"), rs.getString("Extra"));
+                    // <derived2>, <union1,2> 등 임시 테이블은 제외
+                    if ("ALL".equals(type) && table != null && !table.startsWith("<")) {
+                        fullScans.add(table);
+                    }
+                }
+            }
+        }
+
+        if (HOT_STATEMENTS.contains(shortId(ms))) {
+            assertThat(fullScans)
+                    .as("%s 이(가) 전체 스캔으로 실행됨 - 인덱스를 확인하세요", shortId(ms))
+                    .isEmpty();
+        }
+    }
+
+    private static String shortId(MappedStatement ms) {
+        String id = ms.getId();
+        int method = id.lastIndexOf('.');
+        int mapper = id.lastIndexOf('.', method - 1);
+        return id.substring(mapper + 1);
+    }
+
+    /**
+     * 예시 파라미터 - 문에서 참조하는 이름에 따라 값을 만들어 줌
+     * - *No / no : 번호, *At / since : 일시, 그 외 : 문자열
+     */
+    static class SampleParams extends HashMap<String, Object> {
+
+        SampleParams() {
+            put("status", "대기");
+            put("allowed", List.of("대기", "분석실패"));
+            put("flag", "Y");
+            put("search", "갈등");
+            put("sortBy", null);
+            put("includeUsers", true);
+            put("enabled", true);
+            put("version", 0);
+            put("limit", 10);
+            put("offset", 0);
+            put("keyset", new Keyset(new Date(), 1L, 21));
+            put("blockSize", 100L);
+            put("graceDays", 1);
+            put("staleMinutes", 10);
+            put("name", "issue_code");
+            put("username", "user1");
+            put("email", "user1@test.com");
+            put("tel", "01000000001");
+            put("phone", "01000000001");
+            put("bands", List.of(1, 2, 3, 4, 5, 6, 7, 8));
+            put("rows", List.of(Map.of("logNo", 1L, "delta", 1), Map.of("logNo", 2L, "delta", 2)));
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (containsKey(key)) return super.get(key);
+            String name = String.valueOf(key);
+            if (name.equals("no") || name.endsWith("No")) return 1L;
+            if (name.endsWith("At") || name.equals("since")) return new Date();
+            return name + "-1";
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+package com.gentle.talk.mapper.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.github.pagehelper.PageHelper;
+import com.github.pagehelper.autoconfigure.PageHelperAutoConfiguration;
+import com.gentle.talk.domain.common.CursorPage;
+import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.domain.core.Issue;
+
+/**
+ * IssueMapper 조회 쿼리 수 회귀 테스트
+ * - 회원 정보는 JOIN 으로 함께 매핑되어야 함 (이슈 건수만큼 users 조회가 추가되면 안 됨)
+ */
+@MybatisTest
+@ImportAutoConfiguration(PageHelperAutoConfiguration.class)
+@TestPropertySource(properties = {
+        "mybatis.type-aliases-package=com.gentle.talk.domain",
+        "spring.sql.init.schema-locations=classpath:sql/issue-mapper-schema.sql",
+        "spring.datasource.generate-unique-name=true",
+        "spring.flyway.enabled=false"
+})
+class IssueMapperQueryCountTests {
+
+    private static final int ISSUE_COUNT = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private long userNo;
+    private long opponentNo;
+
+    @BeforeEach
+    void setUp() {
+        userNo = insertUser("requester");
+        opponentNo = insertUser("opponent");
+
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO issues (id, user_no, opponent_user_no, conflict_situation, requirements,
+                                        opponent_name, opponent_contact, issue_code)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                    """,
+                    "issue-" + i, userNo, opponentNo, "갈등상황 " + i, "요구사항 " + i,
+                    "상대방", "01000000000", "CODE" + i);
+        }
+        statementCounter.reset();
+    }
+
+    @Test
+    void listWithParamsLoadsUsersWithoutExtraQueries() {
+        QueryParams queryParams = new QueryParams();
+        queryParams.setUserNo(userNo);
+
+        PageHelper.startPage(1, PAGE_SIZE);
+        List<Issue> list = issueMapper.listWithParams(queryParams);
+
+        assertThat(list).hasSize(PAGE_SIZE);
+        assertThat(list).allSatisfy(issue -> {
+            assertThat(issue.getUser()).isNotNull();
+            assertThat(issue.getUser().getUsername()).isEqualTo("requester");
+            assertThat(issue.getUser().getPassword()).isNull();
+            assertThat(issue.getOpponentUser()).isNotNull();
+            assertThat(issue.getOpponentUser().getNo()).isEqualTo(opponentNo);
+        });
+        // COUNT 1회 + 목록 1회
+        assertThat(statementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void listWithParamsCanSkipUsers() {
+        QueryParams queryParams = new QueryParams();
+        queryParams.setUserNo(userNo);
+        queryParams.setIncludeUsers(false);
+
+        PageHelper.startPage(1, PAGE_SIZE);
+        List<Issue> list = issueMapper.listWithParams(queryParams);
+
+        assertThat(list).hasSize(PAGE_SIZE);
+        assertThat(list).allSatisfy(issue -> {
+            assertThat(issue.getUser()).isNull();
+            assertThat(issue.getOpponentUser()).isNull();
+        });
+        assertThat(statementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void selectByUserNoAndRecentIssuesUseSingleQuery() {
+        assertThat(issueMapper.selectByUserNo(userNo)).hasSize(ISSUE_COUNT);
+        assertThat(statementCounter.count()).isEqualTo(1);
+
+        statementCounter.reset();
+        assertThat(issueMapper.selectRecentIssues(opponentNo, PAGE_SIZE))
+                .hasSize(PAGE_SIZE)
+                .allSatisfy(issue -> assertThat(issue.getUser()).isNotNull());
+        assertThat(statementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void cursorPagingWalksAllIssuesWithOneQueryPerPage() {
+        QueryParams queryParams = new QueryParams();
+        queryParams.setUserNo(userNo);
+        queryParams.setSize(PAGE_SIZE);
+
+        Set<Long> seen = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            queryParams.setCursor(cursor);
+            CursorPage.applyCursor(queryParams, PAGE_SIZE + 1);
+
+            List<Issue> rows = issueMapper.listWithParams(queryParams);
+            boolean hasNext = rows.size() > PAGE_SIZE;
+            List<Issue> page = hasNext ? rows.subList(0, PAGE_SIZE) : rows;
+            page.forEach(issue -> assertThat(seen.add(issue.getNo())).isTrue());
+
+            Issue last = page.get(page.size() - 1);
+            cursor = hasNext ? CursorPage.encodeCursor(last.getCreatedAt(), last.getNo()) : null;
+            pages++;
+        }
+
+        assertThat(seen).hasSize(ISSUE_COUNT);
+        // COUNT 없이 페이지당 1회
+        assertThat(statementCounter.count()).isEqualTo(pages);
+    }
+
+    @Test
+    void myIssuesMergesBothSidesInOneQueryPerPage() {
+        // 상대방이 만든 이슈 (requester 가 상대방) + 자기 자신이 상대방인 이슈
+        long otherIssues = 5;
+        for (int i = 0; i < otherIssues; i++) {
+            insertIssue("other-" + i, opponentNo, userNo);
+        }
+        insertIssue("self", userNo, userNo);
+        long total = ISSUE_COUNT + otherIssues + 1;
+
+        statementCounter.reset();
+        QueryParams queryParams = new QueryParams();
+        queryParams.setUserNo(userNo);
+        List<Issue> all = issueMapper.selectMyIssues(queryParams);
+        assertThat(all).hasSize((int) total);
+        assertThat(all).extracting(Issue::getNo).doesNotHaveDuplicates();
+        assertThat(all).extracting(Issue::getNo).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(statementCounter.count()).isEqualTo(1);
+
+        statementCounter.reset();
+        queryParams.setSize(PAGE_SIZE);
+        Set<Long> seen = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            queryParams.setCursor(cursor);
+            CursorPage.applyCursor(queryParams, PAGE_SIZE + 1);
+
+            List<Issue> rows = issueMapper.selectMyIssues(queryParams);
+            boolean hasNext = rows.size() > PAGE_SIZE;
+            List<Issue> page = hasNext ? rows.subList(0, PAGE_SIZE) : rows;
+            page.forEach(issue -> {
+                assertThat(seen.add(issue.getNo())).isTrue();
+                assertThat(issue.getUser()).isNotNull();
+            });
+
+            Issue last = page.get(page.size() - 1);
+            cursor = hasNext ? CursorPage.encodeCursor(last.getCreatedAt(), last.getNo()) : null;
+            pages++;
+        }
+
+        assertThat(seen).hasSize((int) total);
+        assertThat(statementCounter.count()).isEqualTo(pages);
+    }
+
+    @Test
+    void linkOpponentUserNoUpdatesOnlyUnlinkedIssuesInOneStatement() {
+        String phone = "01099998888";
+        int unlinked = 30;
+        for (int i = 0; i < unlinked; i++) {
+            insertIssue("unlinked-" + i, userNo, null, phone);
+        }
+        insertIssue("zero", userNo, 0L, phone);
+        insertIssue("linked", userNo, opponentNo, phone);
+        long newUserNo = insertUser("newcomer");
+
+        statementCounter.reset();
+        int affected = issueMapper.linkOpponentUserNo(phone, newUserNo);
+
+        assertThat(affected).isEqualTo(unlinked + 1);
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issues WHERE opponent_contact = ? AND opponent_user_no = ?",
+                Integer.class, phone, newUserNo)).isEqualTo(unlinked + 1);
+        // 이미 다른 회원과 연결된 이슈는 그대로
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT opponent_user_no FROM issues WHERE id = 'linked'", Long.class)).isEqualTo(opponentNo);
+    }
+
+    private void insertIssue(String id, long ownerNo, long opponentUserNo) {
+        insertIssue(id, ownerNo, opponentUserNo, "01000000000");
+    }
+
+    private void insertIssue(String id, long ownerNo, Long opponentUserNo, String opponentContact) {
+        jdbcTemplate.update("""
+                INSERT INTO issues (id, user_no, opponent_user_no, conflict_situation, requirements,
+                                    opponent_name, opponent_contact, issue_code)
+                VALUES (?, ?, ?, '갈등상황', '요구사항', '상대방', ?, ?)
+                """,
+                id, ownerNo, opponentUserNo, opponentContact, "CODE-" + id);
+    }
+
+    private long insertUser(String username) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, type, username, password, name, gender, email, birth, tel)
+                VALUES (?, '사용자', ?, 'secret', ?, '남', ?, DATE '1990-01-01', '01012345678')
+                """,
+                username, username, username, username + "@test.com");
+        return jdbcTemplate.queryForObject("SELECT no FROM users WHERE username = ?", Long.class, username);
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    /**
+     * 실행된 SQL 문 수 집계 (StatementHandler.prepare 호출 횟수)
+     */
+    @Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class }))
+    static class StatementCounter implements Interceptor {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            count.incrementAndGet();
+            return invocation.proceed();
+        }
+
+        int count() {
+            return count.get();
+        }
+
+        void reset() {
+            count.set(0);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.gentle.talk.mapper.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.domain.core.Issue;
+
+/**
+ * 이슈 검색 (IssueMapper.listWithParams search) 테스트
+ * - ngram FULLTEXT 일치 + 이슈 코드 일치, 관련도 순 정렬, 1글자 부분 일치
+ * - FULLTEXT 는 커밋된 행만 검색되므로 트랜잭션 없이 실행
+ * ⚠ Docker 가 없으면 건너뜀
+ */
+@MybatisTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IssueSearchTests {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userNo;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM issues");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("""
+                INSERT INTO users (id, type, username, password, name, gender, email, birth, tel)
+                VALUES ('user-1', '사용자', 'user1', 'secret', '회원', '남', 'user1@test.com', DATE '1990-01-01', '01012345678')
+                """);
+        userNo = jdbcTemplate.queryForObject("SELECT no FROM users WHERE username = 'user1'", Long.class);
+
+        insertIssue("often", "층간소음 때문에 잠을 못 잡니다. 층간소음이 밤마다 계속됩니다.", "층간소음 중단", "CODE01");
+        insertIssue("once", "주차 문제와 층간소음이 있습니다.", "주차 자리 확보", "CODE02");
+        insertIssue("code", "관리비 정산 문제", "영수증 공개", "ZX12AB");
+        insertIssue("single", "반려견 산책 문제", "목줄 착용", "CODE04");
+    }
+
+    @Test
+    void fullTextMatchesAreOrderedByRelevance() {
+        List<Issue> list = issueMapper.listWithParams(search("층간소음"));
+
+        assertThat(list).extracting(Issue::getId).containsExactly("often", "once");
+        assertThat(list.get(0).getRelevance()).isGreaterThan(list.get(1).getRelevance());
+    }
+
+    @Test
+    void issueCodeMatchesWithoutFullTextMatch() {
+        List<Issue> list = issueMapper.listWithParams(search("ZX12AB"));
+
+        assertThat(list).extracting(Issue::getId).containsExactly("code");
+    }
+
+    @Test
+    void singleCharacterSearchMatchesAnywhereInText() {
+        // 요구사항 중간의 글자 / 이슈 코드 중간의 글자
+        assertThat(issueMapper.listWithParams(search("줄"))).extracting(Issue::getId).containsExactly("single");
+        assertThat(issueMapper.listWithParams(search("X"))).extracting(Issue::getId).containsExactly("code");
+    }
+
+    private QueryParams search(String search) {
+        QueryParams queryParams = new QueryParams();
+        queryParams.setUserNo(userNo);
+        queryParams.setSearch(search);
+        return queryParams;
+    }
+
+    private void insertIssue(String id, String conflictSituation, String requirements, String issueCode) {
+        jdbcTemplate.update("""
+                INSERT INTO issues (id, user_no, conflict_situation, requirements, opponent_name, opponent_contact, issue_code)
+                VALUES (?, ?, ?, ?, '상대방', '01000000000', ?)
+                """,
+                id, userNo, conflictSituation, requirements, issueCode);
+    }
+
+}
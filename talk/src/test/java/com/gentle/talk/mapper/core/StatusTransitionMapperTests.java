@@ -0,0 +1,164 @@
+package com.gentle.talk.mapper.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.gentle.talk.service.core.StatusTransitions;
+
+/**
+ * 상태 전이 UPDATE 테스트 (WHERE status IN 허용된 이전 상태)
+ * - 허용 / 거부 / 동시 변경에 밀린 경우
+ */
+@MybatisTest
+@TestPropertySource(properties = {
+        "mybatis.type-aliases-package=com.gentle.talk.domain",
+        "spring.sql.init.schema-locations=classpath:sql/issue-mapper-schema.sql",
+        "spring.datasource.generate-unique-name=true",
+        "spring.flyway.enabled=false"
+})
+class StatusTransitionMapperTests {
+
+    private static final int STALE_MINUTES = 10;
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private NegotiationMapper negotiationMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userNo;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, type, username, password, name, gender, email, birth, tel)
+                VALUES ('requester', '사용자', 'requester', 'secret', 'requester', '남', 'requester@test.com', DATE '1990-01-01', '01012345678')
+                """);
+        userNo = jdbcTemplate.queryForObject("SELECT no FROM users WHERE username = 'requester'", Long.class);
+    }
+
+    @Test
+    void allowedIssueTransitionIsApplied() {
+        long issueNo = insertIssue("분석완료");
+
+        int result = issueMapper.compareAndSetStatus(issueNo, allowedIssue("상대방대기"), "상대방대기", "Y");
+
+        assertThat(result).isEqualTo(1);
+        assertThat(issueStatus(issueNo)).isEqualTo("상대방대기");
+        assertThat(jdbcTemplate.queryForObject("SELECT flag FROM issues WHERE no = ?", String.class, issueNo)).isEqualTo("Y");
+    }
+
+    @Test
+    void disallowedIssueTransitionIsRejected() {
+        long issueNo = insertIssue("협상완료");
+
+        assertThat(issueMapper.compareAndSetStatus(issueNo, allowedIssue("상대방대기"), "상대방대기", "Y")).isZero();
+        assertThat(issueMapper.updateSelectedProposal(issueNo, allowedIssue("중재안제시"), "중재안", "중재안제시")).isZero();
+        assertThat(issueStatus(issueNo)).isEqualTo("협상완료");
+    }
+
+    @Test
+    void losingIssueTransitionIsRejected() {
+        long issueNo = insertIssue("상대방대기");
+
+        // 먼저 도착한 변경이 협상완료로 바꾼 뒤 → 상대방응답(상대방대기에서만 가능)은 밀림
+        assertThat(issueMapper.compareAndSetStatus(issueNo, allowedIssue("협상완료"), "협상완료", null)).isEqualTo(1);
+        assertThat(issueMapper.compareAndSetStatus(issueNo, allowedIssue("상대방응답"), "상대방응답", null)).isZero();
+        assertThat(issueStatus(issueNo)).isEqualTo("협상완료");
+    }
+
+    @Test
+    void unrelatedEarlierChangeDoesNotFailAllowedTransition() {
+        long issueNo = insertIssue("상대방대기");
+
+        // 그 사이 상대방응답으로 바뀌어도 중재안제시는 여전히 허용
+        assertThat(issueMapper.compareAndSetStatus(issueNo, allowedIssue("상대방응답"), "상대방응답", null)).isEqualTo(1);
+        assertThat(issueMapper.compareAndSetStatus(issueNo, allowedIssue("중재안제시"), "중재안제시", null)).isEqualTo(1);
+        assertThat(issueStatus(issueNo)).isEqualTo("중재안제시");
+    }
+
+    @Test
+    void analyzingIsNotReachableThroughStatusTransitions() {
+        assertThat(allowedIssue("분석중")).isEmpty();
+    }
+
+    @Test
+    void markAnalyzingOnlyFromAnalyzableStatus() {
+        long finished = insertIssue("협상완료");
+        long analyzed = insertIssue("분석완료");
+        long analyzing = insertIssue("분석중");
+
+        assertThat(issueMapper.markAnalyzing(finished, 0, StatusTransitions.ANALYZABLE, STALE_MINUTES)).isZero();
+        assertThat(issueMapper.markAnalyzing(analyzed, 0, StatusTransitions.ANALYZABLE, STALE_MINUTES)).isEqualTo(1);
+        // 분석 진행 중인 이슈는 다시 시작하지 않음
+        assertThat(issueMapper.markAnalyzing(analyzing, 0, StatusTransitions.ANALYZABLE, STALE_MINUTES)).isZero();
+
+        assertThat(issueStatus(finished)).isEqualTo("협상완료");
+        assertThat(issueStatus(analyzed)).isEqualTo("분석중");
+    }
+
+    @Test
+    void markAnalyzingResumesStaleAnalysis() {
+        long issueNo = insertIssue("분석중");
+        jdbcTemplate.update("UPDATE issues SET updated_at = ? WHERE no = ?",
+                LocalDateTime.now().minusMinutes(STALE_MINUTES + 5), issueNo);
+
+        assertThat(issueMapper.markAnalyzing(issueNo, 0, StatusTransitions.ANALYZABLE, STALE_MINUTES)).isEqualTo(1);
+    }
+
+    @Test
+    void negotiationTransitions() {
+        long issueNo = insertIssue("중재안제시");
+        long negotiationNo = insertNegotiation(issueNo, "대기");
+
+        // 허용 : 대기 → 수락
+        assertThat(negotiationMapper.compareAndSetStatus(negotiationNo, allowedNegotiation("수락"), "수락", LocalDateTime.now(), null)).isEqualTo(1);
+        // 거부 : 수락 → 종료 (체결/불발에서만 가능)
+        assertThat(negotiationMapper.compareAndSetStatus(negotiationNo, allowedNegotiation("종료"), "종료", null, null)).isZero();
+        // 동시 변경 : 불발이 먼저 반영되면 체결은 밀림
+        assertThat(negotiationMapper.compareAndSetStatus(negotiationNo, allowedNegotiation("불발"), "불발", null, null)).isEqualTo(1);
+        assertThat(negotiationMapper.compareAndSetStatus(negotiationNo, allowedNegotiation("체결"), "체결", null, LocalDateTime.now())).isZero();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM negotiations WHERE no = ?", String.class, negotiationNo))
+                .isEqualTo("불발");
+    }
+
+    private Set<String> allowedIssue(String status) {
+        return StatusTransitions.allowedFrom(StatusTransitions.ISSUE, status);
+    }
+
+    private Set<String> allowedNegotiation(String status) {
+        return StatusTransitions.allowedFrom(StatusTransitions.NEGOTIATION, status);
+    }
+
+    private long insertIssue(String status) {
+        String id = "issue-" + status + "-" + System.nanoTime();
+        jdbcTemplate.update("""
+                INSERT INTO issues (id, user_no, conflict_situation, requirements, opponent_name, opponent_contact, issue_code, status)
+                VALUES (?, ?, '갈등상황', '요구사항', '상대방', '01000000000', ?, ?)
+                """, id, userNo, id, status);
+        return jdbcTemplate.queryForObject("SELECT no FROM issues WHERE id = ?", Long.class, id);
+    }
+
+    private long insertNegotiation(long issueNo, String status) {
+        jdbcTemplate.update("INSERT INTO negotiations (issue_no, user_no, status) VALUES (?, ?, ?)", issueNo, userNo, status);
+        return jdbcTemplate.queryForObject("SELECT MAX(no) FROM negotiations", Long.class);
+    }
+
+    private String issueStatus(long issueNo) {
+        return jdbcTemplate.queryForObject("SELECT status FROM issues WHERE no = ?", String.class, issueNo);
+    }
+
+}
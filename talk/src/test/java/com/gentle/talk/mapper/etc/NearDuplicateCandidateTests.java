@@ -0,0 +1,86 @@
+package com.gentle.talk.mapper.etc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.gentle.talk.domain.etc.MediationProposalLog;
+import com.gentle.talk.service.common.TextSimilarity;
+
+/**
+ * 근사 중복 후보 검색 테스트 (SimHash 밴드 일치 + 일치 밴드 수 순 정렬)
+ */
+@MybatisTest
+@TestPropertySource(properties = {
+        "mybatis.type-aliases-package=com.gentle.talk.domain",
+        "spring.sql.init.schema-locations=classpath:sql/mediation-log-schema.sql",
+        "spring.datasource.generate-unique-name=true",
+        "spring.flyway.enabled=false"
+})
+class NearDuplicateCandidateTests {
+
+    private static final long CATEGORY_NO = 1L;
+    private static final String BASE = "룸메이트가 밤늦게까지 거실에서 음악을 크게 틀어서 잠을 잘 수가 없습니다. 여러 번 부탁했지만 달라지지 않아요.";
+    // Jaccard 0.81 - 임계값 근처 (밴드 1개 일치)
+    private static final String NEAR_DUPLICATE = "룸메이트가 밤늦게까지 거실에서 음악을 크게 틀어서 잠을 잘 수가 없어요. 여러 번 부탁했지만 달라지지 않아요.";
+    // Jaccard 0.91 (밴드 5개 일치)
+    private static final String CLOSE_DUPLICATE = "제 룸메이트가 밤늦게까지 거실에서 음악을 크게 틀어서 잠을 잘 수가 없습니다. 여러 번 부탁했지만 달라지지 않아요.";
+
+    private final TextSimilarity textSimilarity = new TextSimilarity();
+
+    @Autowired
+    private MediationProposalLogMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void nearDuplicateIsFoundThroughBands() {
+        insertLog("near", CATEGORY_NO, textSimilarity.simHash(NEAR_DUPLICATE), 0);
+        insertLog("other-category", CATEGORY_NO + 1, textSimilarity.simHash(NEAR_DUPLICATE), 0);
+
+        List<MediationProposalLog> candidates = candidates(BASE, 20);
+
+        assertThat(candidates).extracting(MediationProposalLog::getId).containsExactly("near");
+    }
+
+    @Test
+    void candidatesMatchingMoreBandsComeFirst() {
+        long simHash = textSimilarity.simHash(BASE);
+        // 밴드 하나만 우연히 일치하는 인기 로그 (나머지 밴드는 모두 다름)
+        long oneBand = ~simHash & ~0xFFL | (simHash & 0xFFL);
+        for (int i = 0; i < 5; i++) {
+            insertLog("popular-" + i, CATEGORY_NO, oneBand, 100);
+        }
+        insertLog("close", CATEGORY_NO, textSimilarity.simHash(CLOSE_DUPLICATE), 0);
+
+        List<MediationProposalLog> candidates = candidates(BASE, 3);
+
+        assertThat(candidates).hasSize(3);
+        assertThat(candidates.get(0).getId()).isEqualTo("close");
+    }
+
+    private List<MediationProposalLog> candidates(String conflictSituation, int limit) {
+        long simHash = textSimilarity.simHash(conflictSituation);
+        int[] bands = new int[TextSimilarity.BAND_COUNT];
+        for (int i = 0; i < bands.length; i++) {
+            bands[i] = textSimilarity.band(simHash, i);
+        }
+        return mapper.findNearDuplicateCandidates(CATEGORY_NO, "hash-" + conflictSituation.hashCode(), bands, limit);
+    }
+
+    private void insertLog(String id, long categoryNo, long simHash, int reuseCount) {
+        jdbcTemplate.update("""
+                INSERT INTO mediation_proposal_logs (id, category_no, conflict_situation_hash, conflict_situation_simhash,
+                                                     conflict_situation, requirements, mediation_proposals, reuse_count)
+                VALUES (?, ?, ?, ?, '갈등상황', '요구사항', '[]', ?)
+                """, id, categoryNo, "hash-" + id, simHash, reuseCount);
+    }
+
+}
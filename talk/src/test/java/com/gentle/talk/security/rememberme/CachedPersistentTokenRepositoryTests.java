@@ -0,0 +1,127 @@
+package com.gentle.talk.security.rememberme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CachedPersistentTokenRepository 지연 쓰기 / 재시도 / 로그아웃 테스트
+ * - node, otherNode : 같은 DB 를 쓰는 두 인스턴스
+ */
+class CachedPersistentTokenRepositoryTests {
+
+    private static final long TTL_SECONDS = 60;
+
+    private final AtomicLong now = new AtomicLong();
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+    private CachedPersistentTokenRepository node;
+    private CachedPersistentTokenRepository otherNode;
+
+    @BeforeEach
+    void setUp() {
+        db = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/persistent-logins-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(db);
+        node = repository();
+        otherNode = repository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        db.shutdown();
+    }
+
+    @Test
+    void updateIsWrittenOnFlush() {
+        node.createNewToken(new PersistentRememberMeToken("user", "s1", "t1", new Date()));
+
+        node.updateToken("s1", "t2", new Date());
+        assertThat(dbToken("s1")).isEqualTo("t1");
+        assertThat(node.getTokenForSeries("s1").getTokenValue()).isEqualTo("t2");
+
+        node.flush();
+        assertThat(dbToken("s1")).isEqualTo("t2");
+    }
+
+    @Test
+    void failedFlushIsRetried() {
+        node.createNewToken(new PersistentRememberMeToken("user", "s1", "t1", new Date()));
+        node.updateToken("s1", "t2", new Date());
+
+        jdbcTemplate.execute("ALTER TABLE persistent_logins RENAME TO persistent_logins_off");
+        node.flush();
+        jdbcTemplate.execute("ALTER TABLE persistent_logins_off RENAME TO persistent_logins");
+        assertThat(dbToken("s1")).isEqualTo("t1");
+
+        node.flush();
+        assertThat(dbToken("s1")).isEqualTo("t2");
+    }
+
+    @Test
+    void logoutDropsPendingUpdateAfterFailedFlush() {
+        node.createNewToken(new PersistentRememberMeToken("user", "s1", "t1", new Date()));
+        node.updateToken("s1", "t2", new Date());
+
+        jdbcTemplate.execute("ALTER TABLE persistent_logins RENAME TO persistent_logins_off");
+        node.flush();
+        jdbcTemplate.execute("ALTER TABLE persistent_logins_off RENAME TO persistent_logins");
+
+        node.removeUserTokens("user");
+        node.flush();
+
+        assertThat(node.getTokenForSeries("s1")).isNull();
+        assertThat(rows()).isZero();
+    }
+
+    @Test
+    void logoutOnOtherNodeIsSeenWithinTtl() {
+        node.createNewToken(new PersistentRememberMeToken("user", "s1", "t1", new Date()));
+        assertThat(otherNode.getTokenForSeries("s1")).isNotNull();
+
+        node.removeUserTokens("user");
+
+        // 자동 로그인을 계속해도 캐시 유효기간은 연장되지 않음
+        for (int i = 0; i < 5; i++) {
+            now.addAndGet(TimeUnit.SECONDS.toNanos(TTL_SECONDS / 5 - 1));
+            otherNode.updateToken("s1", "t" + (i + 2), new Date());
+            otherNode.flush();
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(otherNode.getTokenForSeries("s1")).isNull();
+        assertThat(rows()).isZero();
+    }
+
+    private CachedPersistentTokenRepository repository() {
+        return new CachedPersistentTokenRepository(db, new SimpleMeterRegistry(), 100, TTL_SECONDS, now::get);
+    }
+
+    private String dbToken(String series) {
+        List<String> tokens = jdbcTemplate.queryForList(
+                "select token from persistent_logins where series = ?", String.class, series);
+        return tokens.isEmpty() ? null : tokens.get(0);
+    }
+
+    private int rows() {
+        return jdbcTemplate.queryForObject("select count(*) from persistent_logins", Integer.class);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.gentle.talk.service.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequirementCoverage 요구 조건 추출 / 반영 여부 테스트
+ */
+class RequirementCoverageTests {
+
+    private static final String ANALYSIS = """
+            ⚖️ 주요 쟁점
+            - 층간 소음이 밤늦게까지 계속됨
+            - 관리사무소 중재가 효과 없음
+
+            💬 요구 조건
+            - 밤 10시 이후 소음 자제
+            - 매트 설치
+
+            📚 제시 근거
+            - 공동주택 층간소음 기준
+            """;
+
+    private final RequirementCoverage coverage = new RequirementCoverage();
+
+    @Test
+    void extractsOnlyRequirementBullets() {
+        assertThat(coverage.requirements(ANALYSIS)).containsExactly("밤 10시 이후 소음 자제", "매트 설치");
+    }
+
+    @Test
+    void noRequirementSectionMeansNothingMissing() {
+        assertThat(coverage.requirements("분석 결과 없음")).isEmpty();
+        assertThat(coverage.missing("분석 결과 없음", "안녕하세요.")).isEmpty();
+    }
+
+    @Test
+    void draftCoveringAllRequirements() {
+        String draft = "안녕하세요. 저는 밤 10시 이후에는 소음을 자제해 주시면 좋겠습니다. "
+                + "가능하시다면 거실에 매트를 설치해 주실 수 있을까요?";
+
+        assertThat(coverage.missing(ANALYSIS, draft)).isEmpty();
+    }
+
+    @Test
+    void draftMissingRequirement() {
+        String draft = "안녕하세요. 저는 밤 10시 이후에는 소음을 자제해 주시면 좋겠습니다.";
+
+        assertThat(coverage.missing(ANALYSIS, draft)).containsExactly("매트 설치");
+    }
+
+}
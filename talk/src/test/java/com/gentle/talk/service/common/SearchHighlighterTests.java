@@ -0,0 +1,58 @@
+package com.gentle.talk.service.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SearchHighlighter 스니펫 테스트
+ */
+class SearchHighlighterTests {
+
+    private final SearchHighlighter highlighter = new SearchHighlighter();
+
+    @Test
+    void highlightsEveryTermInFirstMatchingField() {
+        String snippet = highlighter.snippet("층간 소음", null, "관리비 문제", "윗집 층간 소음이 심해요");
+
+        assertThat(snippet).isEqualTo("윗집 <em>층간</em> <em>소음</em>이 심해요");
+    }
+
+    @Test
+    void matchesCaseInsensitivelyAndKeepsOriginalCase() {
+        assertThat(highlighter.snippet("wifi", "공용 WiFi 비밀번호")).isEqualTo("공용 <em>WiFi</em> 비밀번호");
+    }
+
+    @Test
+    void escapesHtmlOutsideAndInsideMatches() {
+        assertThat(highlighter.snippet("<b>", "a<b>c & d"))
+                .isEqualTo("a<em>&lt;b&gt;</em>c &amp; d");
+    }
+
+    @Test
+    void trimsLongFieldsAroundFirstMatch() {
+        String field = "가".repeat(100) + "소음" + "나".repeat(100);
+
+        String snippet = highlighter.snippet("소음", field);
+
+        assertThat(snippet)
+                .startsWith("…" + "가".repeat(SearchHighlighter.CONTEXT_CHARS) + "<em>소음</em>")
+                .endsWith("…");
+        // 앞 CONTEXT_CHARS + 일치 위치부터 CONTEXT_CHARS * 2
+        assertThat(snippet.replace("<em>", "").replace("</em>", "").replace("…", ""))
+                .hasSize(SearchHighlighter.CONTEXT_CHARS * 3);
+    }
+
+    @Test
+    void prefersLongerTermAtSamePosition() {
+        assertThat(highlighter.snippet("층 층간소음", "층간소음 문제")).isEqualTo("<em>층간소음</em> 문제");
+    }
+
+    @Test
+    void returnsNullWithoutMatchOrTerms() {
+        assertThat(highlighter.snippet("주차", "층간 소음", null)).isNull();
+        assertThat(highlighter.snippet("   ", "층간 소음")).isNull();
+        assertThat(highlighter.snippet(null, "층간 소음")).isNull();
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.gentle.talk.service.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * StatisticsServiceImpl 카운터 반영 시점 테스트 (커밋 후 / 롤백 / 트랜잭션 밖)
+ */
+class StatisticsServiceImplTests {
+
+    private final StatisticsServiceImpl statisticsService = statisticsService();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void appliesImmediatelyWithoutTransaction() {
+        statisticsService.issueCreated("대기");
+
+        assertThat(statisticsService.snapshot().getIssuesByStatus()).containsEntry("대기", 1L);
+    }
+
+    @Test
+    void appliesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        statisticsService.issueCreated("대기");
+        statisticsService.userCreated(true);
+
+        // 커밋 전에는 반영되지 않음
+        assertThat(statisticsService.snapshot().getIssuesByStatus()).isEmpty();
+        assertThat(statisticsService.snapshot().getTotalUsers()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(statisticsService.snapshot().getIssuesByStatus()).containsEntry("대기", 1L);
+        assertThat(statisticsService.snapshot().getActiveUsers()).isEqualTo(1L);
+    }
+
+    @Test
+    void ignoresRolledBackChanges() {
+        TransactionSynchronizationManager.initSynchronization();
+        statisticsService.negotiationCreated("진행중");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(statisticsService.snapshot().getNegotiationsByStatus()).isEmpty();
+    }
+
+    private static StatisticsServiceImpl statisticsService() {
+        StatisticsServiceImpl service = new StatisticsServiceImpl();
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        return service;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.gentle.talk.service.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * TextSimilarity 테스트 (정규화 / SimHash 밴드 / Jaccard)
+ */
+class TextSimilarityTests {
+
+    static final String BASE = "룸메이트가 밤늦게까지 거실에서 음악을 크게 틀어서 잠을 잘 수가 없습니다. 여러 번 부탁했지만 달라지지 않아요.";
+    static final String NEAR_DUPLICATE = "룸메이트가 밤늦게까지 거실에서 음악을 크게 틀어서 잠을 잘 수가 없어요. 여러 번 부탁했지만 달라지지 않아요.";
+    static final String UNRELATED = "회사 동료가 함께 준비한 프로젝트 보고서를 제 이름을 빼고 팀장님께 혼자 제출했습니다.";
+
+    private final TextSimilarity textSimilarity = new TextSimilarity();
+
+    @Test
+    void normalizationIgnoresSpacingPunctuationAndCase() {
+        String text = "Room mate 가 음악을 크게 틀어요!";
+        String variant = "ROOMMATE가  음악을, 크게 틀어요";
+
+        assertThat(textSimilarity.normalize(text)).isEqualTo(textSimilarity.normalize(variant));
+        assertThat(textSimilarity.simHash(text)).isEqualTo(textSimilarity.simHash(variant));
+        assertThat(textSimilarity.jaccard(textSimilarity.shingles(text), textSimilarity.shingles(variant))).isEqualTo(1.0);
+    }
+
+    @Test
+    void hashesWithinSevenBitsShareABand() {
+        long simHash = textSimilarity.simHash(BASE);
+        Random random = new Random(42);
+
+        // 8 개 밴드 중 최대 7 개만 바뀌므로 항상 하나는 일치
+        for (int trial = 0; trial < 10_000; trial++) {
+            long flipped = simHash;
+            while (Long.bitCount(simHash ^ flipped) < 1 + trial % 7) {
+                flipped ^= 1L << random.nextInt(64);
+            }
+            assertThat(sharesBand(simHash, flipped)).as("diff %x", simHash ^ flipped).isTrue();
+        }
+    }
+
+    @Test
+    void bitsSpreadOverEveryBandAreNotACandidate() {
+        long simHash = textSimilarity.simHash(BASE);
+        long flipped = simHash;
+        for (int i = 0; i < TextSimilarity.BAND_COUNT; i++) {
+            flipped ^= 1L << (i * TextSimilarity.BAND_BITS);
+        }
+
+        assertThat(Long.bitCount(simHash ^ flipped)).isEqualTo(TextSimilarity.BAND_COUNT);
+        assertThat(sharesBand(simHash, flipped)).isFalse();
+    }
+
+    @Test
+    void nearDuplicateIsCandidateAndScoresHigh() {
+        long base = textSimilarity.simHash(BASE);
+        long near = textSimilarity.simHash(NEAR_DUPLICATE);
+
+        // 짧은 글은 Jaccard 0.8 수준에서도 보장 범위(7bit)보다 많이 달라짐 - 16bit 밴드 4개로는 후보에서 빠지던 경우
+        assertThat(Long.bitCount(base ^ near)).isGreaterThan(TextSimilarity.BAND_COUNT - 1);
+        assertThat(sharesBand(base, near)).isTrue();
+        assertThat(jaccard(BASE, NEAR_DUPLICATE)).isGreaterThanOrEqualTo(0.8).isLessThan(1.0);
+    }
+
+    @Test
+    void unrelatedTextScoresLow() {
+        assertThat(jaccard(BASE, UNRELATED)).isLessThan(0.1);
+    }
+
+    @Test
+    void jaccardEdgeCases() {
+        assertThat(textSimilarity.jaccard(Set.of(), Set.of())).isEqualTo(1.0);
+        assertThat(textSimilarity.jaccard(Set.of("abc"), Set.of())).isEqualTo(0.0);
+        assertThat(textSimilarity.jaccard(Set.of("abc", "bcd"), Set.of("bcd", "cde"))).isEqualTo(1.0 / 3);
+    }
+
+    private double jaccard(String a, String b) {
+        return textSimilarity.jaccard(textSimilarity.shingles(a), textSimilarity.shingles(b));
+    }
+
+    private boolean sharesBand(long a, long b) {
+        for (int i = 0; i < TextSimilarity.BAND_COUNT; i++) {
+            if (textSimilarity.band(a, i) == textSimilarity.band(b, i)) return true;
+        }
+        return false;
+    }
+
+}
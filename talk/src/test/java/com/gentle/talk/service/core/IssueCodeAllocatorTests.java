@@ -0,0 +1,77 @@
+package com.gentle.talk.service.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gentle.talk.mapper.common.IdSequenceMapper;
+
+/**
+ * IssueCodeAllocator 순열 / 인코딩 테스트
+ */
+class IssueCodeAllocatorTests {
+
+    private static final String SECRET = "issue-code-test-secret-0123456789abcdef";
+    private static final long DOMAIN = 2_176_782_336L;     // 36^6
+    private static final int SAMPLE = 100_000;
+
+    private final IssueCodeAllocator allocator = allocator(SECRET);
+
+    @Test
+    void permuteIsOneToOneWithinDomain() {
+        Set<Long> seen = new HashSet<>();
+        // 범위 앞부분 + 끝부분
+        for (long value = 0; value < SAMPLE; value++) {
+            assertPermutedOnce(value, seen);
+        }
+        for (long value = DOMAIN - SAMPLE; value < DOMAIN; value++) {
+            assertPermutedOnce(value, seen);
+        }
+    }
+
+    @Test
+    void permuteDependsOnSecret() {
+        IssueCodeAllocator other = allocator(SECRET + "-other");
+        int same = 0;
+        for (long value = 0; value < 1_000; value++) {
+            if (allocator.permute(value) == other.permute(value)) same++;
+        }
+        assertThat(same).isLessThan(5);
+    }
+
+    @Test
+    void encodeAlwaysReturnsSixCharacters() {
+        assertThat(allocator.encode(0)).isEqualTo("000000");
+        assertThat(allocator.encode(35)).isEqualTo("00000Z");
+        assertThat(allocator.encode(DOMAIN - 1)).isEqualTo("ZZZZZZ");
+        for (long value = 0; value < SAMPLE; value++) {
+            assertThat(allocator.encode(allocator.permute(value)))
+                    .hasSize(IssueCodeAllocator.CODE_LENGTH)
+                    .matches("[0-9A-Z]{6}");
+        }
+    }
+
+    @Test
+    void rejectsMissingOrShortSecret() {
+        assertThatThrownBy(() -> allocator(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> allocator("  ")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> allocator("short-secret")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void assertPermutedOnce(long value, Set<Long> seen) {
+        long permuted = allocator.permute(value);
+        assertThat(permuted).isBetween(0L, DOMAIN - 1);
+        assertThat(seen.add(permuted)).as("permute(%d) 중복", value).isTrue();
+    }
+
+    private static IssueCodeAllocator allocator(String secret) {
+        return new IssueCodeAllocator(mock(IdSequenceMapper.class), mock(PlatformTransactionManager.class), secret, 100);
+    }
+
+}
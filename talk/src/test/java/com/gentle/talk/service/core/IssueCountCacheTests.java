@@ -0,0 +1,163 @@
+package com.gentle.talk.service.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.baomidou.mybatisplus.autoconfigure.MybatisPlusAutoConfiguration;
+import com.github.pagehelper.PageInfo;
+import com.github.pagehelper.autoconfigure.PageHelperAutoConfiguration;
+import com.gentle.talk.domain.common.CountedPageInfo;
+import com.gentle.talk.domain.common.QueryParams;
+import com.gentle.talk.domain.core.Issue;
+import com.gentle.talk.service.common.LlmClient;
+import com.gentle.talk.service.common.RequirementCoverage;
+import com.gentle.talk.service.common.SearchHighlighter;
+import com.gentle.talk.service.common.StatisticsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 이슈 목록 전체 수(COUNT) 캐시 테스트
+ * - 1 페이지 : 정확한 COUNT, 2..N 페이지 : 캐시값 (approximateTotal)
+ * - 상태 변경 / 상대방 매칭 시 해당 키 무효화
+ */
+@MybatisTest
+@ImportAutoConfiguration({ MybatisPlusAutoConfiguration.class, PageHelperAutoConfiguration.class })
+@Import({ IssueServiceImpl.class, IssueCountCache.class, SearchHighlighter.class, RequirementCoverage.class })
+@TestPropertySource(properties = {
+        "mybatis.type-aliases-package=com.gentle.talk.domain",
+        "spring.sql.init.schema-locations=classpath:sql/issue-mapper-schema.sql",
+        "spring.datasource.generate-unique-name=true",
+        "spring.flyway.enabled=false"
+})
+class IssueCountCacheTests {
+
+    private static final int ISSUE_COUNT = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private LlmClient llmClient;
+
+    @MockitoBean
+    private StatisticsService statisticsService;
+
+    @MockitoBean
+    private IssueCodeAllocator issueCodeAllocator;
+
+    private long userNo;
+    private long opponentNo;
+
+    @BeforeEach
+    void setUp() {
+        userNo = insertUser("requester");
+        opponentNo = insertUser("opponent");
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            insertIssue("issue-" + i, "분석실패");
+        }
+    }
+
+    @Test
+    void firstPageCountsAndLaterPagesUseCachedTotal() {
+        CountedPageInfo<Issue> first = page(1, "분석실패", null);
+        assertThat(first.isApproximateTotal()).isFalse();
+        assertThat(first.getTotal()).isEqualTo(ISSUE_COUNT);
+
+        // 캐시를 거치지 않고 추가된 이슈는 2 페이지 전체 수에 반영되지 않음 (캐시값 사용)
+        insertIssue("issue-extra", "분석실패");
+        CountedPageInfo<Issue> second = page(2, "분석실패", null);
+        assertThat(second.isApproximateTotal()).isTrue();
+        assertThat(second.getTotal()).isEqualTo(ISSUE_COUNT);
+        assertThat(second.getList()).hasSize(PAGE_SIZE);
+    }
+
+    @Test
+    void statusChangeInvalidatesStatusKeys() {
+        page(1, "분석실패", null);
+        page(1, null, null);
+
+        long issueNo = issueNo("issue-0");
+        assertThat(issueService.transitionStatus(issueNo, "대기", null)).isTrue();
+
+        // 이전 상태 필터 → 다시 COUNT
+        CountedPageInfo<Issue> failed = page(2, "분석실패", null);
+        assertThat(failed.isApproximateTotal()).isFalse();
+        assertThat(failed.getTotal()).isEqualTo(ISSUE_COUNT - 1);
+
+        // 상태 필터 없는 키는 전체 수가 같으므로 유지
+        assertThat(page(2, null, null).isApproximateTotal()).isTrue();
+    }
+
+    @Test
+    void opponentLinkInvalidatesUserKeys() {
+        long newUserNo = insertUser("new-member");
+        assertThat(page(1, null, newUserNo).getTotal()).isZero();
+
+        assertThat(issueService.linkOpponentIssuesAfterSignup(newUserNo, "01099990000")).isZero();
+        jdbcTemplate.update("UPDATE issues SET opponent_contact = '01099990000', opponent_user_no = NULL WHERE id = 'issue-0'");
+        assertThat(issueService.linkOpponentIssuesAfterSignup(newUserNo, "01099990000")).isEqualTo(1);
+
+        CountedPageInfo<Issue> linked = page(2, null, newUserNo);
+        assertThat(linked.isApproximateTotal()).isFalse();
+        assertThat(linked.getTotal()).isEqualTo(1);
+    }
+
+    private CountedPageInfo<Issue> page(int page, String status, Long filterUserNo) {
+        QueryParams queryParams = new QueryParams();
+        queryParams.setPage(page);
+        queryParams.setSize(PAGE_SIZE);
+        queryParams.setStatus(status);
+        queryParams.setUserNo(filterUserNo);
+        PageInfo<Issue> pageInfo = issueService.page(queryParams);
+        assertThat(pageInfo).isInstanceOf(CountedPageInfo.class);
+        return (CountedPageInfo<Issue>) pageInfo;
+    }
+
+    private long insertUser(String username) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, type, username, password, name, gender, email, birth, tel)
+                VALUES (?, '사용자', ?, 'secret', ?, '남', ?, DATE '1990-01-01', '01012345678')
+                """,
+                username, username, username, username + "@test.com");
+        return jdbcTemplate.queryForObject("SELECT no FROM users WHERE username = ?", Long.class, username);
+    }
+
+    private void insertIssue(String id, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO issues (id, user_no, opponent_user_no, conflict_situation, requirements,
+                                    opponent_name, opponent_contact, issue_code, status)
+                VALUES (?, ?, ?, '갈등상황', '요구사항', '상대방', '01000000000', ?, ?)
+                """,
+                id, userNo, opponentNo, id, status);
+    }
+
+    private long issueNo(String id) {
+        return jdbcTemplate.queryForObject("SELECT no FROM issues WHERE id = ?", Long.class, id);
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.gentle.talk.service.etc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gentle.talk.domain.etc.MediationProposalLog;
+import com.gentle.talk.mapper.etc.MediationProposalLogMapper;
+import com.gentle.talk.service.common.TextSimilarity;
+
+/**
+ * 중재안 재사용 판정 테스트 (MediationProposalLogServiceImpl.getOrCreateProposal)
+ * - 후보와의 Jaccard 유사도가 mediation.similarity.threshold 이상일 때만 재사용
+ */
+class MediationProposalReuseTests {
+
+    private static final long CATEGORY_NO = 1L;
+    private static final long SOURCE_LOG_NO = 7L;
+    private static final double DEFAULT_THRESHOLD = 0.8;
+
+    private static final String BASE = "룸메이트가 밤늦게까지 거실에서 음악을 크게 틀어서 잠을 잘 수가 없습니다. 여러 번 부탁했지만 달라지지 않아요.";
+    private static final String NEAR_DUPLICATE = "룸메이트가 밤늦게까지 거실에서 음악을 크게 틀어서 잠을 잘 수가 없어요. 여러 번 부탁했지만 달라지지 않아요.";
+    private static final String UNRELATED = "회사 동료가 함께 준비한 프로젝트 보고서를 제 이름을 빼고 팀장님께 혼자 제출했습니다.";
+
+    private final TextSimilarity textSimilarity = new TextSimilarity();
+    private final MediationProposalLogMapper mapper = mock(MediationProposalLogMapper.class);
+    private final MediationProposalLogCache cache = mock(MediationProposalLogCache.class);
+    private final ReuseCountAccumulator reuseCountAccumulator = mock(ReuseCountAccumulator.class);
+    private final MediationProposalLogServiceImpl service = new MediationProposalLogServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "mapper", mapper);
+        ReflectionTestUtils.setField(service, "cache", cache);
+        ReflectionTestUtils.setField(service, "reuseCountAccumulator", reuseCountAccumulator);
+        ReflectionTestUtils.setField(service, "textSimilarity", textSimilarity);
+        ReflectionTestUtils.setField(service, "candidateLimit", 20);
+        ReflectionTestUtils.setField(service, "similarityThreshold", DEFAULT_THRESHOLD);
+        when(mapper.insert(any(MediationProposalLog.class))).thenReturn(1);
+    }
+
+    @Test
+    void nearDuplicateIsReused() {
+        candidates(log(SOURCE_LOG_NO, NEAR_DUPLICATE));
+
+        MediationProposalLog reused = service.getOrCreateProposal(CATEGORY_NO, BASE, "요구사항");
+
+        assertThat(reused).isNotNull();
+        assertThat(reused.getSourceLogNo()).isEqualTo(SOURCE_LOG_NO);
+        assertThat(reused.getIsFromApi()).isFalse();
+        assertThat(reused.getMediationProposals()).isEqualTo("[\"기존 중재안\"]");
+        assertThat(reused.getSimilarityScore()).isBetween(DEFAULT_THRESHOLD, 1.0);
+        verify(reuseCountAccumulator).increment(SOURCE_LOG_NO);
+    }
+
+    @Test
+    void unrelatedCandidateIsNotReused() {
+        candidates(log(SOURCE_LOG_NO, UNRELATED));
+
+        assertThat(service.getOrCreateProposal(CATEGORY_NO, BASE, "요구사항")).isNull();
+        verify(reuseCountAccumulator, never()).increment(anyLong());
+        verify(mapper, never()).insert(any(MediationProposalLog.class));
+    }
+
+    @Test
+    void bestCandidateIsChosen() {
+        candidates(log(1L, UNRELATED), log(SOURCE_LOG_NO, NEAR_DUPLICATE));
+
+        MediationProposalLog reused = service.getOrCreateProposal(CATEGORY_NO, BASE, "요구사항");
+
+        assertThat(reused.getSourceLogNo()).isEqualTo(SOURCE_LOG_NO);
+    }
+
+    @Test
+    void scoreExactlyAtThresholdIsReused() {
+        candidates(log(SOURCE_LOG_NO, NEAR_DUPLICATE));
+        ReflectionTestUtils.setField(service, "similarityThreshold", score(BASE, NEAR_DUPLICATE));
+
+        assertThat(service.getOrCreateProposal(CATEGORY_NO, BASE, "요구사항")).isNotNull();
+    }
+
+    @Test
+    void scoreJustBelowThresholdIsNotReused() {
+        candidates(log(SOURCE_LOG_NO, NEAR_DUPLICATE));
+        ReflectionTestUtils.setField(service, "similarityThreshold", Math.nextUp(score(BASE, NEAR_DUPLICATE)));
+
+        assertThat(service.getOrCreateProposal(CATEGORY_NO, BASE, "요구사항")).isNull();
+        verify(reuseCountAccumulator, never()).increment(anyLong());
+    }
+
+    @Test
+    void noCandidatesIsAMiss() {
+        candidates();
+
+        assertThat(service.getOrCreateProposal(CATEGORY_NO, BASE, "요구사항")).isNull();
+    }
+
+    private void candidates(MediationProposalLog... logs) {
+        when(cache.candidates(eq(CATEGORY_NO), anyString(), anyInt(), any())).thenReturn(List.of(logs));
+    }
+
+    private MediationProposalLog log(long no, String conflictSituation) {
+        MediationProposalLog log = new MediationProposalLog();
+        log.setNo(no);
+        log.setCategoryNo(CATEGORY_NO);
+        log.setConflictSituation(conflictSituation);
+        log.setConflictSituationHash(service.generateHash(conflictSituation));
+        log.setMediationProposals("[\"기존 중재안\"]");
+        return log;
+    }
+
+    private double score(String a, String b) {
+        return textSimilarity.jaccard(textSimilarity.shingles(a), textSimilarity.shingles(b));
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.gentle.talk.service.etc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gentle.talk.mapper.etc.MediationProposalLogMapper;
+
+/**
+ * ReuseCountAccumulator 테스트
+ * - flush 와 increment 가 동시에 실행되어도 증가분 유실 없음
+ * - addReuseCounts 실패 시 다음 주기에 재시도
+ */
+class ReuseCountAccumulatorTests {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS = 20_000;
+    private static final long[] LOG_NOS = {1L, 2L, 3L};
+
+    private final MediationProposalLogMapper mapper = mock(MediationProposalLogMapper.class);
+    private final ReuseCountAccumulator accumulator = accumulator();
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        when(mapper.addReuseCounts(anyList())).thenAnswer(invocation -> {
+            List<Map<String, Long>> rows = invocation.getArgument(0);
+            rows.forEach(row -> flushed.addAndGet(row.get("delta")));
+            return rows.size();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < INCREMENTS; i++) {
+                        accumulator.increment(LOG_NOS[i % LOG_NOS.length]);
+                    }
+                    done.countDown();
+                });
+            }
+            // 누적 중에 반복 flush
+            while (done.getCount() > 0) {
+                accumulator.flush();
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        accumulator.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) THREADS * INCREMENTS);
+    }
+
+    @Test
+    void failedFlushIsRetriedOnNextCycle() {
+        List<List<Map<String, Long>>> calls = new ArrayList<>();
+        when(mapper.addReuseCounts(anyList()))
+                .thenAnswer(invocation -> {
+                    calls.add(List.copyOf(invocation.getArgument(0)));
+                    throw new IllegalStateException("db down");
+                })
+                .thenAnswer(invocation -> {
+                    calls.add(List.copyOf(invocation.getArgument(0)));
+                    return 2;
+                });
+
+        accumulator.increment(1L);
+        accumulator.increment(1L);
+        accumulator.increment(2L);
+        accumulator.flush();
+
+        // 실패 이후 들어온 증가분도 되돌린 값과 합쳐서 반영
+        accumulator.increment(1L);
+        accumulator.flush();
+
+        verify(mapper, times(2)).addReuseCounts(anyList());
+        assertThat(calls.get(1)).containsExactly(
+                Map.of("logNo", 1L, "delta", 3L),
+                Map.of("logNo", 2L, "delta", 1L));
+
+        // 반영 완료 후에는 더 보낼 것이 없음
+        accumulator.flush();
+        verify(mapper, times(2)).addReuseCounts(anyList());
+    }
+
+    private ReuseCountAccumulator accumulator() {
+        ReuseCountAccumulator accumulator = new ReuseCountAccumulator();
+        ReflectionTestUtils.setField(accumulator, "mapper", mapper);
+        return accumulator;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.gentle.talk.service.users;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.baomidou.mybatisplus.autoconfigure.MybatisPlusAutoConfiguration;
+import com.gentle.talk.domain.users.CustomUser;
+import com.gentle.talk.domain.users.Users;
+import com.gentle.talk.security.jwt.JwtTokenProvider;
+import com.gentle.talk.security.jwt.TokenDenyList;
+import com.gentle.talk.service.common.EmailService;
+import com.gentle.talk.service.common.StatisticsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 비밀번호 변경 → 리프레시 토큰 계열 폐기 테스트
+ * - 비밀번호 변경 API 들은 password 에 새 비밀번호를 담아 updateById 호출
+ * - 변경 이후 이전 리프레시 토큰으로 갱신하면 거부되어야 함
+ */
+@MybatisTest
+@ImportAutoConfiguration(MybatisPlusAutoConfiguration.class)
+@Import({ UserServiceImpl.class, RefreshTokenServiceImpl.class, CustomDetailsService.class, UserDetailsCache.class,
+          JwtTokenProvider.class, TokenDenyList.class })
+@TestPropertySource(properties = {
+        "spring.sql.init.schema-locations=classpath:sql/user-token-schema.sql",
+        "spring.datasource.generate-unique-name=true",
+        "spring.flyway.enabled=false",
+        "jwt.secret=test-secret-key-for-refresh-token-tests-0123456789",
+        "jwt.expiration=600000",
+        "jwt.refresh-expiration=86400000"
+})
+class PasswordChangeRevokesTokensTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private StatisticsService statisticsService;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, type, username, password, name, gender, email, birth, tel)
+                VALUES ('user-1', '사용자', 'user1', ?, '회원', '남', 'user1@test.com', DATE '1990-01-01', '01012345678')
+                """,
+                passwordEncoder.encode("old-password"));
+        user = userService.selectByUsername("user1");
+    }
+
+    @Test
+    void changingPasswordRejectsRefreshWithOldToken() {
+        RefreshTokenService.Tokens tokens = refreshTokenService.issue(new CustomUser(user));
+
+        // UserController.changePassword / AdminController.adminResetPassword 와 같은 방식
+        user.setPassword("new-password");
+        assertThat(userService.updateById(user)).isTrue();
+
+        Users saved = userService.selectByUsername("user1");
+        assertThat(passwordEncoder.matches("new-password", saved.getPassword())).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(tokens.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void updatingProfileKeepsRefreshTokens() {
+        RefreshTokenService.Tokens tokens = refreshTokenService.issue(new CustomUser(user));
+
+        // 저장된(암호화된) 비밀번호 그대로 → 비밀번호 변경 아님
+        user.setName("새이름");
+        assertThat(userService.updateById(user)).isTrue();
+
+        Integer revoked = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE revoked_at IS NOT NULL", Integer.class);
+        assertThat(revoked).isZero();
+        assertThat(refreshTokenService.rotate(tokens.refreshToken()).refreshToken()).isNotBlank();
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+}
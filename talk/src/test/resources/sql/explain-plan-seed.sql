@@ -0,0 +1,52 @@
+-- 실행 계획 테스트용 데이터 (MySQL, Flyway 마이그레이션 적용 후)
+-- * 빈 테이블은 옵티마이저가 인덱스 대신 전체 스캔을 고를 수 있으므로 테이블마다 수천 건 생성
+-- * 회원 1,000 / 이슈 5,000 / 협상 3,000 / 중재안 로그 3,000 / 리프레시 토큰 3,000 / 분석 작업 2,000
+
+SET SESSION cte_max_recursion_depth = 10000;
+
+INSERT INTO users (id, type, username, password, name, gender, email, birth, tel)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT CONCAT('user-', n), '사용자', CONCAT('user', n), 'secret', CONCAT('회원', n), '남',
+       CONCAT('user', n, '@test.com'), DATE '1990-01-01', CONCAT('010', LPAD(n, 8, '0'))
+FROM seq;
+
+INSERT INTO user_auth (id, user_no, username, auth)
+SELECT CONCAT('auth-', no), no, username, 'ROLE_USER'
+FROM users;
+
+INSERT INTO issues (id, user_no, opponent_user_no, conflict_situation, requirements, opponent_name, opponent_contact,
+                    issue_code, status, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+SELECT CONCAT('issue-', n), n % 1000 + 1, IF(n % 3 = 0, NULL, (n * 7) % 1000 + 1),
+       CONCAT('갈등상황 ', n), CONCAT('요구사항 ', n), CONCAT('상대방', n), CONCAT('010', LPAD(n % 2000, 8, '0')),
+       CONCAT('C', LPAD(n, 5, '0')),
+       ELT(n % 9 + 1, '대기', '분석중', '분석완료', '분석실패', '상대방대기', '상대방응답', '중재안제시', '협상완료', '협상결렬'),
+       NOW() - INTERVAL n MINUTE
+FROM seq;
+
+INSERT INTO negotiations (issue_no, user_no, status, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 3000)
+SELECT n, n % 1000 + 1, ELT(n % 5 + 1, '대기', '수락', '체결', '불발', '종료'), NOW() - INTERVAL n MINUTE
+FROM seq;
+
+INSERT INTO analysis_jobs (id, issue_no, status, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000)
+-- 대부분 종료된 작업 (대기/분석중은 소수)
+SELECT CONCAT('job-', n), n, CASE n % 50 WHEN 0 THEN '대기' WHEN 1 THEN '분석중' ELSE IF(n % 2 = 0, '분석완료', '분석실패') END,
+       NOW() - INTERVAL n MINUTE
+FROM seq;
+
+INSERT INTO mediation_proposal_logs (id, category_no, conflict_situation_hash, conflict_situation_simhash,
+                                     conflict_situation, requirements, mediation_proposals, reuse_count, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 3000)
+SELECT CONCAT('log-', n), n % 20 + 1, SHA2(n % 1500, 256), n * 1000003,
+       CONCAT('갈등상황 ', n), CONCAT('요구사항 ', n), JSON_ARRAY(), n % 7, NOW() - INTERVAL n MINUTE
+FROM seq;
+
+INSERT INTO refresh_tokens (id, family_id, user_no, username, expires_at, revoked_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 3000)
+SELECT CONCAT('token-', n), CONCAT('family-', n DIV 3), n % 1000 + 1, CONCAT('user', n % 1000 + 1),
+       NOW() + INTERVAL 1 DAY, IF(n % 10 = 0, NOW(), NULL)
+FROM seq;
+
+ANALYZE TABLE users, user_auth, issues, negotiations, analysis_jobs, mediation_proposal_logs, refresh_tokens;
@@ -0,0 +1,66 @@
+-- IssueMapper 테스트용 스키마 (H2, MySQL 모드)
+-- * NOTE/SQL/DDL.sql 의 users / issues / negotiations 중 매퍼에서 사용하는 컬럼만
+-- * created_at 은 MySQL TIMESTAMP 와 같이 초 단위 (커서 페이징 비교 기준)
+
+DROP TABLE IF EXISTS negotiations;
+DROP TABLE IF EXISTS issues;
+DROP TABLE IF EXISTS users;
+
+CREATE TABLE users (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	id VARCHAR(64) NOT NULL UNIQUE,
+	type VARCHAR(20) NOT NULL,
+	username VARCHAR(100) NOT NULL UNIQUE,
+	password VARCHAR(100) NOT NULL,
+	name VARCHAR(100) NOT NULL,
+	gender VARCHAR(10) NOT NULL,
+	email VARCHAR(100) NOT NULL,
+	birth DATE NOT NULL,
+	tel VARCHAR(100) NOT NULL,
+	enabled TINYINT NOT NULL DEFAULT 1,
+	created_at TIMESTAMP(0) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no)
+);
+
+CREATE TABLE issues (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	id VARCHAR(64) NOT NULL UNIQUE,
+	user_no BIGINT NOT NULL,
+	opponent_user_no BIGINT,
+	conflict_situation TEXT NOT NULL,
+	requirements TEXT NOT NULL,
+	analysis_result TEXT,
+	opponent_name VARCHAR(100) NOT NULL,
+	opponent_contact VARCHAR(100) NOT NULL,
+	issue_code VARCHAR(64) NOT NULL UNIQUE,
+	opponent_requirements TEXT,
+	opponent_analysis_result TEXT,
+	mediation_proposals TEXT,
+	selected_mediation_proposal TEXT,
+	additional_conditions TEXT,
+	negotiation_message TEXT,
+	flag VARCHAR(1) NOT NULL DEFAULT 'N',
+	status VARCHAR(20) NOT NULL DEFAULT '대기',
+	version INT NOT NULL DEFAULT 0,
+	created_at TIMESTAMP(0) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no),
+	FOREIGN KEY (user_no) REFERENCES users (no)
+);
+
+CREATE TABLE negotiations (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	issue_no BIGINT NOT NULL,
+	user_no BIGINT NOT NULL,
+	mediation_proposal TEXT,
+	negotiation_proposal TEXT,
+	accepted_at TIMESTAMP,
+	finalized_at TIMESTAMP,
+	status VARCHAR(20) NOT NULL DEFAULT '대기',
+	created_at TIMESTAMP(0) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no),
+	FOREIGN KEY (issue_no) REFERENCES issues (no),
+	FOREIGN KEY (user_no) REFERENCES users (no)
+);
@@ -0,0 +1,46 @@
+-- MediationProposalLogMapper 테스트용 스키마 (H2)
+-- * V1 / V13 의 mediation_proposal_logs 중 근사 중복 검색에 필요한 컬럼만
+-- * simhash_b0 ~ b7 : MySQL 생성 컬럼과 같은 계산 (8bit 밴드)
+-- * issue_categories : 결과 매핑(category 연관) 조회용
+
+DROP TABLE IF EXISTS mediation_proposal_logs;
+DROP TABLE IF EXISTS issue_categories;
+
+CREATE TABLE issue_categories (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	id VARCHAR(64) NOT NULL UNIQUE,
+	code VARCHAR(50) NOT NULL UNIQUE,
+	name VARCHAR(100) NOT NULL,
+	description CLOB,
+	display_order INT NOT NULL DEFAULT 0,
+	enabled TINYINT NOT NULL DEFAULT 1,
+	created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no)
+);
+
+CREATE TABLE mediation_proposal_logs (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	id VARCHAR(64) NOT NULL UNIQUE,
+	category_no BIGINT NOT NULL,
+	conflict_situation_hash VARCHAR(64) NOT NULL,
+	conflict_situation_simhash BIGINT,
+	simhash_b0 INT GENERATED ALWAYS AS (BITAND(conflict_situation_simhash, 255)),
+	simhash_b1 INT GENERATED ALWAYS AS (BITAND(RSHIFT(conflict_situation_simhash, 8), 255)),
+	simhash_b2 INT GENERATED ALWAYS AS (BITAND(RSHIFT(conflict_situation_simhash, 16), 255)),
+	simhash_b3 INT GENERATED ALWAYS AS (BITAND(RSHIFT(conflict_situation_simhash, 24), 255)),
+	simhash_b4 INT GENERATED ALWAYS AS (BITAND(RSHIFT(conflict_situation_simhash, 32), 255)),
+	simhash_b5 INT GENERATED ALWAYS AS (BITAND(RSHIFT(conflict_situation_simhash, 40), 255)),
+	simhash_b6 INT GENERATED ALWAYS AS (BITAND(RSHIFT(conflict_situation_simhash, 48), 255)),
+	simhash_b7 INT GENERATED ALWAYS AS (BITAND(RSHIFT(conflict_situation_simhash, 56), 255)),
+	conflict_situation CLOB NOT NULL,
+	requirements CLOB NOT NULL,
+	mediation_proposals CLOB NOT NULL,
+	reuse_count INT NOT NULL DEFAULT 0,
+	is_from_api TINYINT NOT NULL DEFAULT 1,
+	source_log_no BIGINT,
+	success_feedback TINYINT,
+	created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no)
+);
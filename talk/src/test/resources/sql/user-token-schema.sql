@@ -0,0 +1,50 @@
+-- 회원 / 리프레시 토큰 테스트용 스키마 (H2, MySQL 모드)
+-- * NOTE/SQL/DDL.sql 의 users / user_auth / refresh_tokens
+
+DROP TABLE IF EXISTS refresh_tokens;
+DROP TABLE IF EXISTS user_auth;
+DROP TABLE IF EXISTS users;
+
+CREATE TABLE users (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	id VARCHAR(64) NOT NULL UNIQUE,
+	type VARCHAR(20) NOT NULL,
+	username VARCHAR(100) NOT NULL UNIQUE,
+	password VARCHAR(100) NOT NULL,
+	name VARCHAR(100) NOT NULL,
+	gender VARCHAR(10) NOT NULL,
+	email VARCHAR(100) NOT NULL,
+	birth DATE NOT NULL,
+	tel VARCHAR(100) NOT NULL,
+	enabled TINYINT NOT NULL DEFAULT 1,
+	created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no)
+);
+
+CREATE TABLE user_auth (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	id VARCHAR(64) NOT NULL UNIQUE,
+	user_no BIGINT NOT NULL,
+	username VARCHAR(100) NOT NULL,
+	auth VARCHAR(100) NOT NULL,
+	created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no),
+	FOREIGN KEY (user_no) REFERENCES users (no)
+);
+
+CREATE TABLE refresh_tokens (
+	no BIGINT NOT NULL AUTO_INCREMENT,
+	id VARCHAR(64) NOT NULL UNIQUE,
+	family_id VARCHAR(64) NOT NULL,
+	user_no BIGINT NOT NULL,
+	username VARCHAR(100) NOT NULL,
+	expires_at TIMESTAMP NOT NULL,
+	used_at TIMESTAMP NULL,
+	revoked_at TIMESTAMP NULL,
+	created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (no),
+	FOREIGN KEY (user_no) REFERENCES users (no)
+);